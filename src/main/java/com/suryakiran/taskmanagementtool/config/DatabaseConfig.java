@@ -1,5 +1,6 @@
 package com.suryakiran.taskmanagementtool.config;
 
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -10,25 +11,41 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
 
 //Configuration class for database
 @Configuration
 @EnableJpaRepositories(basePackages = "com.suryakiran.taskmanagementtool.repository")
 public class DatabaseConfig {
+
+    private static final String DEFAULT_BATCH_SIZE = "50";
+
     // Configures the entity manager factory
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource, JpaProperties jpaProperties) {
         LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
         em.setDataSource(dataSource);
         em.setPackagesToScan("com.suryakiran.taskmanagementtool.model");
         HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
         em.setJpaVendorAdapter(vendorAdapter);
+        em.setJpaPropertyMap(hibernateProperties(jpaProperties));
         return em;
     }
-    // Configures the transaction manager
 
+    // This factory replaces Boot's, so spring.jpa.properties.* are applied here. JDBC batching with ordered
+    // inserts and updates is on unless configured otherwise, so bulk task writes go out in a few round trips.
+    private static Map<String, Object> hibernateProperties(JpaProperties jpaProperties) {
+        Map<String, Object> properties = new HashMap<>(jpaProperties.getProperties());
+        properties.putIfAbsent("hibernate.jdbc.batch_size", DEFAULT_BATCH_SIZE);
+        properties.putIfAbsent("hibernate.order_inserts", "true");
+        properties.putIfAbsent("hibernate.order_updates", "true");
+        return properties;
+    }
+
+    // Configures the transaction manager
     @Bean
     public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
         return new JpaTransactionManager(entityManagerFactory);
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,32 @@
 package com.suryakiran.taskmanagementtool.config;
 
+import com.suryakiran.taskmanagementtool.filter.DatabaseRateLimitStore;
+import com.suryakiran.taskmanagementtool.filter.LocalRateLimitStore;
+import com.suryakiran.taskmanagementtool.filter.RateLimitStore;
 import com.suryakiran.taskmanagementtool.filter.RateLimiterFilter;
+import com.suryakiran.taskmanagementtool.repository.RateLimitBucketRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class FilterConfig {
 
+    // A single filter instance for every limited path, so a client has one bucket however many endpoints it hits
     @Bean
-    public FilterRegistrationBean<RateLimiterFilter> customRateLimiterFilter() {
+    public FilterRegistrationBean<RateLimiterFilter> customRateLimiterFilter(RateLimitProperties rateLimitProperties,
+                                                                           RateLimitBucketRepository rateLimitBucketRepository) {
+        RateLimitStore store = switch (rateLimitProperties.getStore()) {
+            case LOCAL -> new LocalRateLimitStore(rateLimitProperties.getMaximumBuckets(), rateLimitProperties.getIdleTimeout());
+            case DATABASE -> new DatabaseRateLimitStore(rateLimitBucketRepository, rateLimitProperties.getLeaseSize(),
+                    rateLimitProperties.getMaximumBuckets(), rateLimitProperties.getIdleTimeout());
+        };
         FilterRegistrationBean<RateLimiterFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new RateLimiterFilter());
-        registrationBean.addUrlPatterns("/api/authenticate", "/api/refresh-token");
+        registrationBean.setFilter(new RateLimiterFilter(rateLimitProperties, store));
+        registrationBean.setUrlPatterns(rateLimitProperties.getUrlPatterns());
         registrationBean.setOrder(1); // Set the order of the filter
         return registrationBean;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.suryakiran.taskmanagementtool.config;
+
+import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import com.suryakiran.taskmanagementtool.util.BlockIdStrategy;
+import com.suryakiran.taskmanagementtool.util.IdBlockSource;
+import com.suryakiran.taskmanagementtool.util.RandomIdStrategy;
+import com.suryakiran.taskmanagementtool.util.TaskIdStrategy;
+import com.suryakiran.taskmanagementtool.util.TimeOrderedIdStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//Configuration class for task ID generation
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public TaskIdStrategy taskIdStrategy(@Value("${task.id.strategy:time-ordered}") String strategy,
+                                         @Value("${task.id.node-id:0}") int nodeId,
+                                         @Value("${task.id.block-size:1000}") int blockSize,
+                                         TaskRepository taskRepository,
+                                         IdBlockSource idBlockSource) {
+        return switch (strategy) {
+            case "time-ordered" -> new TimeOrderedIdStrategy(nodeId);
+            case "block" -> new BlockIdStrategy(idBlockSource, blockSize);
+            case "random" -> new RandomIdStrategy(taskRepository);
+            default -> throw new IllegalArgumentException("Unknown task.id.strategy: " + strategy);
+        };
+    }
+
+    // Leases the first block in the background as soon as the application is up
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> taskIdBlockPrefetcher(TaskIdStrategy taskIdStrategy) {
+        return event -> {
+            if (taskIdStrategy instanceof BlockIdStrategy blockIdStrategy) {
+                blockIdStrategy.prefetch();
+            }
+        };
+    }
+}
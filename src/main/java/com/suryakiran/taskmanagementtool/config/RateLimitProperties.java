@@ -0,0 +1,58 @@
+package com.suryakiran.taskmanagementtool.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    public static final String ANONYMOUS = "anonymous";
+    public static final String DEFAULT = "default";
+
+    public enum KeyType {
+        // One bucket per client address
+        IP,
+        // One bucket per authenticated user id, falling back to the client address for anonymous requests
+        USER,
+        // One bucket per request path, shared by every client
+        ROUTE
+    }
+
+    public enum StoreType {
+        // Buckets in this node's memory; with N nodes the effective limit is N times the configured one
+        LOCAL,
+        // Buckets shared through the rate_limit_bucket table, leased to each node leaseSize tokens at a time
+        DATABASE
+    }
+
+    private KeyType key = KeyType.IP;
+
+    private StoreType store = StoreType.LOCAL;
+    private long leaseSize = 5;
+
+    private List<String> urlPatterns = List.of("/api/authenticate", "/api/refresh-token", "/login");
+
+    // Buckets are kept in a bounded map and dropped after sitting idle
+    private long maximumBuckets = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // Keyed by role name, plus "anonymous" for unauthenticated requests and "default" for roles without an entry
+    private Map<String, Limit> limits = new LinkedHashMap<>(Map.of(
+            ANONYMOUS, new Limit(),
+            DEFAULT, new Limit()));
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private long capacity = 10;
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
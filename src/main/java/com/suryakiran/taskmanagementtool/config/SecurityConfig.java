@@ -2,6 +2,7 @@ package com.suryakiran.taskmanagementtool.config;
 
 import com.suryakiran.taskmanagementtool.filter.JwtRequestFilter;
 import com.suryakiran.taskmanagementtool.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -11,7 +12,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -28,11 +28,15 @@ public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtRequestFilter jwtRequestFilter;
     private final Environment environment;
+    // BoundedPasswordEncoder: BCrypt on its own bounded pool
+    private final PasswordEncoder passwordEncoder;
 
-    public SecurityConfig(CustomUserDetailsService customUserDetailsService, JwtRequestFilter jwtRequestFilter, Environment environment) {
+    public SecurityConfig(CustomUserDetailsService customUserDetailsService, JwtRequestFilter jwtRequestFilter, Environment environment,
+                          PasswordEncoder passwordEncoder) {
         this.customUserDetailsService = customUserDetailsService;
         this.jwtRequestFilter = jwtRequestFilter;
         this.environment = environment;
+        this.passwordEncoder = passwordEncoder;
     }
 
     @Bean
@@ -46,6 +50,8 @@ public class SecurityConfig {
                     .csrf(AbstractHttpConfigurer::disable)
                     .cors(withDefaults())
                     .authorizeHttpRequests(requests -> requests
+                            // Streamed responses finish on an async dispatch that was already authorized
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                             .requestMatchers("/api/authenticate", "/api/refresh-token", "/api/logout", "/swagger-ui.html", "/v3/api-docs/**", "/swagger-ui/**").permitAll() // Permitting some endpoints
                             .requestMatchers("/api/users/reset-password").permitAll() // Allow reset-password without auth
                             .requestMatchers("/api/tasks/**").authenticated()
@@ -68,15 +74,10 @@ public class SecurityConfig {
         return source;
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
         AuthenticationManagerBuilder authBuilder = http.getSharedObject(AuthenticationManagerBuilder.class);
-        authBuilder.userDetailsService(customUserDetailsService).passwordEncoder(passwordEncoder());
+        authBuilder.userDetailsService(customUserDetailsService).passwordEncoder(passwordEncoder);
         return authBuilder.build();
     }
 
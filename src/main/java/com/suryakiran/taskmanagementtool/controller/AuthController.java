@@ -1,18 +1,17 @@
 package com.suryakiran.taskmanagementtool.controller;
 
-import com.suryakiran.taskmanagementtool.model.User;
-import com.suryakiran.taskmanagementtool.repository.UserRepository;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
 import com.suryakiran.taskmanagementtool.util.JwtUtil;
 import com.suryakiran.taskmanagementtool.exception.AuthenticationFailedException;
 import com.suryakiran.taskmanagementtool.service.TokenBlacklistService;
+import com.suryakiran.taskmanagementtool.service.TokenRevocationService;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -25,15 +24,15 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final TokenBlacklistService tokenBlacklistService;
-    private final UserRepository userRepository; // Injecting UserRepository
+    private final TokenRevocationService tokenRevocationService;
 
     @Autowired
     public AuthController(AuthenticationManager authenticationManager, JwtUtil jwtUtil,
-                          TokenBlacklistService tokenBlacklistService, UserRepository userRepository) {
+                          TokenBlacklistService tokenBlacklistService, TokenRevocationService tokenRevocationService) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.tokenBlacklistService = tokenBlacklistService;
-        this.userRepository = userRepository; // Injected UserRepository
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @PostMapping("/authenticate")
@@ -42,14 +41,10 @@ public class AuthController {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(authRequest.getEmail(), authRequest.getPassword())
             );
-            final UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+            // The principal already carries the userId loaded by CustomUserDetailsService
+            final AuthenticatedUser userDetails = (AuthenticatedUser) authentication.getPrincipal();
 
-            // Retrieve the User object from the database to get the userId
-            User user = userRepository.findByEmail(authRequest.getEmail())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-            // Pass both userDetails and userId to generateToken
-            String token = jwtUtil.generateToken(userDetails, user.getId());  // Pass userId here
+            String token = jwtUtil.generateToken(userDetails, userDetails.getId());
             String refreshToken = jwtUtil.generateRefreshToken(userDetails); // Generate refresh token
 
             Map<String, String> tokens = new HashMap<>();
@@ -78,7 +73,12 @@ public class AuthController {
 
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(@RequestBody String token) {
-        tokenBlacklistService.blacklistToken(token);
+        // Only tokens that still verify need revoking, and only until their own expiry
+        try {
+            tokenRevocationService.revoke(token, jwtUtil.parseToken(token).getExpirationMillis());
+        } catch (JwtException | IllegalArgumentException e) {
+            // Forged, malformed or already expired: no request will accept it anyway
+        }
         return ResponseEntity.ok().build();
     }
 }
@@ -1,20 +1,36 @@
 // File: src/main/java/com/suryakiran/taskmanagementtool/controller/TaskController.java
 package com.suryakiran.taskmanagementtool.controller;
 
+import com.suryakiran.taskmanagementtool.dto.CursorPage;
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
+import com.suryakiran.taskmanagementtool.dto.TaskChanges;
 import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.TaskImportResult;
+import com.suryakiran.taskmanagementtool.dto.TaskStats;
+import com.suryakiran.taskmanagementtool.dto.TaskVersion;
 import com.suryakiran.taskmanagementtool.model.Priority;
 import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.service.TaskExportFormat;
+import com.suryakiran.taskmanagementtool.service.TaskImportService;
 import com.suryakiran.taskmanagementtool.service.TaskService;
+import com.suryakiran.taskmanagementtool.util.TaskETags;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,9 +40,11 @@ public class TaskController {
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskImportService taskImportService) {
         this.taskService = taskService;
+        this.taskImportService = taskImportService;
     }
 
     @GetMapping("/home")
@@ -44,51 +62,206 @@ public class TaskController {
         try {
             TaskDTO createdTask = taskService.createTask(taskDTO, authentication);
             logger.info("Task created with ID: {}", createdTask.getId());
-            return ResponseEntity.ok(createdTask);
+            return ResponseEntity.ok().eTag(TaskETags.forVersion(createdTask.getVersion())).body(createdTask);
         } catch (Exception e) {
             logger.error("Error creating task", e);
             return ResponseEntity.status(500).body("Failed to create task. Please try again later.");
         }
     }
 
+    // Bulk endpoints: one transaction per request and one result per item, in request order
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskBatchResult>> createTasks(@RequestBody List<TaskDTO> taskDTOs, Authentication authentication) {
+        logger.info("Creating {} tasks in bulk", taskDTOs.size());
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(taskService.createTasks(taskDTOs, authentication));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<TaskBatchResult>> updateTasks(@RequestBody List<TaskDTO> taskDTOs, Authentication authentication) {
+        logger.info("Updating {} tasks in bulk", taskDTOs.size());
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(taskService.updateTasks(taskDTOs, authentication));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<TaskBatchResult>> deleteTasks(@RequestBody List<String> ids, Authentication authentication) {
+        logger.info("Deleting {} tasks in bulk", ids.size());
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(taskService.deleteTasks(ids, authentication));
+    }
+
+    // Pages carry an ETag; a matching If-None-Match is answered with 304 from the page's row versions alone
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getAllTasks(Pageable pageable, Authentication authentication) {
+    public ResponseEntity<List<TaskDTO>> getAllTasks(Pageable pageable, Authentication authentication,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Retrieving all tasks");
+        if (ifNoneMatch != null && isAuthenticated(authentication)) {
+            String tag = taskService.getTasksTag(null, null, pageable, authentication);
+            if (TaskETags.matches(ifNoneMatch, tag)) {
+                return notModified(tag);
+            }
+        }
         Page<TaskDTO> taskPage = taskService.getAllTasks(pageable, authentication);
         List<TaskDTO> tasks = taskPage.getContent();
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(pageTag(tasks, null, null)).body(tasks);
+    }
+
+    // Keyset pagination: pass an empty cursor for the first page, then the returned "next" token
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<TaskDTO>> getAllTasksByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "dueDate") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
+        logger.info("Retrieving tasks by cursor");
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        if (ifNoneMatch != null) {
+            String tag = taskService.getTasksPageTag(cursor, size, sortBy, direction, null, null, count, authentication);
+            if (TaskETags.matches(ifNoneMatch, tag)) {
+                return notModified(tag);
+            }
+        }
+        CursorPage<TaskDTO> page = taskService.getTasksPage(cursor, size, sortBy, direction, null, null, count, authentication);
+        return ResponseEntity.ok().eTag(pageTag(page.getItems(), page.getNext(), page.getTotalElements())).body(page);
+    }
+
+    // Ranked full-text search over title and description; each word matches whole words or their prefixes
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskDTO>> searchTasks(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "20") int limit,
+                                                     Authentication authentication) {
+        logger.info("Searching tasks");
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(taskService.searchTasks(q, limit, authentication));
+    }
+
+    // Counts of the caller's tasks by status, priority and due date (overdue, today, rest of this week, later)
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getTaskStats(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(taskService.getTaskStats(authentication));
+    }
+
+    // Type-ahead completions: the caller's distinct titles starting with prefix, most used first (at most 10)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggestTitles(@RequestParam(defaultValue = "") String prefix,
+                                                      @RequestParam(defaultValue = "10") int limit,
+                                                      Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(taskService.suggestTitles(prefix, limit, authentication));
     }
 
+    // Server-sent events for the caller's task changes: created, updated and deleted (id only), or resync when
+    // changes were dropped because the client fell behind. Idle streams get a heartbeat comment.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTasks(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(taskService.streamTasks(authentication));
+    }
+
+    // Delta sync: the caller's tasks created or updated and the IDs of tasks deleted since the watermark of an
+    // earlier call, with the watermark to pass next time. Without since, or when since is too old, every task is
+    // listed with reset set.
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChanges> getTaskChanges(@RequestParam(required = false) String since,
+                                                      @RequestParam(defaultValue = "1000") int limit,
+                                                      Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(taskService.getTaskChanges(since, limit, authentication));
+    }
+
+    // Streams all of the caller's tasks as NDJSON (default) or CSV; rows are written as they are read
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                                             Authentication authentication) {
+        logger.info("Exporting tasks as {}", format);
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        TaskExportFormat exportFormat = TaskExportFormat.fromValue(format);
+        StreamingResponseBody body = out -> taskService.exportTasks(exportFormat, out, authentication);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // Reads the raw request body as it arrives; the Content-Type (text/csv or application/x-ndjson) picks the parser
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<TaskImportResult> importTasks(HttpServletRequest request, Authentication authentication) throws IOException {
+        logger.info("Importing tasks from {}", request.getContentType());
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        TaskExportFormat format = TaskExportFormat.fromMediaType(request.getContentType());
+        return ResponseEntity.ok(taskImportService.importTasks(format, request.getInputStream(), authentication));
+    }
+
+    // The ETag is the task's version: send it as If-None-Match to poll, or as If-Match to update or delete
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable String id, Authentication authentication) {
+    public ResponseEntity<TaskDTO> getTaskById(@PathVariable String id, Authentication authentication,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching task by ID: {}", id);
+        if (ifNoneMatch != null && isAuthenticated(authentication)) {
+            Optional<String> tag = taskService.getTaskVersion(id, authentication).map(TaskETags::forVersion);
+            if (tag.isPresent() && TaskETags.matches(ifNoneMatch, tag.get())) {
+                return notModified(tag.get());
+            }
+        }
         Optional<TaskDTO> taskDTO = taskService.getTaskById(id, authentication);
-        return taskDTO.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+        return taskDTO.map(task -> ResponseEntity.ok().eTag(TaskETags.forVersion(task.getVersion())).body(task))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PreAuthorize("hasRole('ROLE_ADMIN') or @taskService.isTaskOwner(#id, authentication?.principal?.id)")
     @PutMapping("/{id}")
-    public ResponseEntity<TaskDTO> updateTask(@PathVariable String id, @Valid @RequestBody TaskDTO taskDTO, Authentication authentication) {
+    public ResponseEntity<TaskDTO> updateTask(@PathVariable String id, @Valid @RequestBody TaskDTO taskDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              Authentication authentication) {
         logger.info("Updating task with ID: {}", id);
         if (authentication == null || !authentication.isAuthenticated()) {
             return ResponseEntity.status(401).build();
         }
-        TaskDTO updatedTask = taskService.updateTask(id, taskDTO, authentication);
+        TaskDTO updatedTask = taskService.updateTask(id, taskDTO, TaskETags.requiredVersion(ifMatch), authentication);
         if(updatedTask == null) {
             return ResponseEntity.status(404).build();
         }
         logger.info("Task updated with ID: {}", id);
-        return ResponseEntity.ok(updatedTask);
+        return ResponseEntity.ok().eTag(TaskETags.forVersion(updatedTask.getVersion())).body(updatedTask);
     }
 
     @PreAuthorize("hasRole('ROLE_ADMIN') or @taskService.isTaskOwner(#id, authentication?.principal?.id)")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable String id, Authentication authentication) {
+    public ResponseEntity<Void> deleteTask(@PathVariable String id,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           Authentication authentication) {
         logger.info("Deleting task with ID: {}", id);
         if (authentication == null || !authentication.isAuthenticated()) {
             return ResponseEntity.status(401).build();
         }
-        taskService.deleteTask(id, authentication);
+        taskService.deleteTask(id, TaskETags.requiredVersion(ifMatch), authentication);
         logger.info("Task deleted with ID: {}", id);
         return ResponseEntity.noContent().build();
     }
@@ -97,10 +270,56 @@ public class TaskController {
     public ResponseEntity<List<TaskDTO>> getTasks(
             @RequestParam(required = false) Status status,
             @RequestParam(required = false) Priority priority,
-            Pageable pageable, Authentication authentication) {
+            Pageable pageable, Authentication authentication,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Filtering tasks with status: {} and priority: {}", status, priority);
+        if (ifNoneMatch != null && isAuthenticated(authentication)) {
+            String tag = taskService.getTasksTag(status, priority, pageable, authentication);
+            if (TaskETags.matches(ifNoneMatch, tag)) {
+                return notModified(tag);
+            }
+        }
         Page<TaskDTO> taskPage = taskService.getTasks(status, priority, pageable, authentication);
         List<TaskDTO> tasks = taskPage.getContent();
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(pageTag(tasks, null, null)).body(tasks);
+    }
+
+    @GetMapping(value = "/filter", params = "cursor")
+    public ResponseEntity<CursorPage<TaskDTO>> getTasksByCursor(
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "dueDate") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
+        logger.info("Filtering tasks by cursor with status: {} and priority: {}", status, priority);
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+        if (ifNoneMatch != null) {
+            String tag = taskService.getTasksPageTag(cursor, size, sortBy, direction, status, priority, count, authentication);
+            if (TaskETags.matches(ifNoneMatch, tag)) {
+                return notModified(tag);
+            }
+        }
+        CursorPage<TaskDTO> page = taskService.getTasksPage(cursor, size, sortBy, direction, status, priority, count, authentication);
+        return ResponseEntity.ok().eTag(pageTag(page.getItems(), page.getNext(), page.getTotalElements())).body(page);
+    }
+
+    private static boolean isAuthenticated(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated();
+    }
+
+    private static <T> ResponseEntity<T> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+    }
+
+    // Matches the tags the service computes from versions alone for the same page
+    private static String pageTag(List<TaskDTO> tasks, String next, Long total) {
+        return TaskETags.forPage(tasks.stream().map(task -> new TaskVersion(task.getId(), task.getVersion())).toList(),
+                next != null, total);
     }
 }
\ No newline at end of file
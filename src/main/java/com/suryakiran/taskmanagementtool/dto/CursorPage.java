@@ -0,0 +1,18 @@
+package com.suryakiran.taskmanagementtool.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+    private List<T> items;
+    // Opaque token for the following page, null on the last page
+    private String next;
+    // Only filled in when the client asks for a count
+    private Long totalElements;
+}
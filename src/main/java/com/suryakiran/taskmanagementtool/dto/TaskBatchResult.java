@@ -0,0 +1,32 @@
+package com.suryakiran.taskmanagementtool.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Outcome of one item of a bulk request, reported at the item's position in the request
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchResult {
+
+    public enum Status {
+        CREATED, UPDATED, DELETED, NOT_FOUND, INVALID
+    }
+
+    private int index;
+    private String id;
+    private Status status;
+    // Validation messages, only for INVALID items
+    private List<String> errors;
+
+    public static TaskBatchResult of(int index, String id, Status status) {
+        return new TaskBatchResult(index, id, status, null);
+    }
+
+    public static TaskBatchResult invalid(int index, String id, List<String> errors) {
+        return new TaskBatchResult(index, id, Status.INVALID, errors);
+    }
+}
@@ -0,0 +1,22 @@
+package com.suryakiran.taskmanagementtool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TaskChanges {
+    // The client must drop what it holds and apply this as a full sync: no watermark was given, or tombstones
+    // after it have since been pruned
+    private boolean reset;
+    // Created or updated tasks, as they are now
+    private List<TaskDTO> changed;
+    // IDs of deleted tasks
+    private List<String> deleted;
+    // Pass as since on the next call
+    private String watermark;
+    // More changes follow; call again with the watermark right away
+    private boolean hasMore;
+}
@@ -1,5 +1,6 @@
 package com.suryakiran.taskmanagementtool.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.suryakiran.taskmanagementtool.model.Status;
 import com.suryakiran.taskmanagementtool.model.Priority;
 import lombok.Getter;
@@ -31,9 +32,36 @@ public class TaskDTO {
     @NotNull(message = "Due date is mandatory")
     private Date dueDate;
 
+    // Sent as the ETag header rather than in the body
+    @JsonIgnore
+    private Long version;
+
     private UserDTO creator;
     private String creatorFirstName;
     private String creatorLastName;
     public TaskDTO() {
     }
+
+    // Used by the projection queries in TaskRepository, which select only these columns
+    public TaskDTO(String id, String title, String description, Status status, Priority priority, Date dueDate,
+                   Integer creatorId, String creatorFirstName, String creatorLastName, String creatorEmail,
+                   java.util.Date creatorCreatedAt, long version) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.version = version;
+        if (creatorId != null) {
+            this.creatorFirstName = creatorFirstName;
+            this.creatorLastName = creatorLastName;
+            this.creator = new UserDTO();
+            this.creator.setId(creatorId);
+            this.creator.setFirstName(creatorFirstName);
+            this.creator.setLastName(creatorLastName);
+            this.creator.setEmail(creatorEmail);
+            this.creator.setCreatedAt(creatorCreatedAt);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.suryakiran.taskmanagementtool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Summary of a streamed import. Only the first rejected rows are listed; failed always has the full count.
+@Getter
+@AllArgsConstructor
+public class TaskImportResult {
+    private long records;
+    private long imported;
+    private long failed;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        // 1-based position of the record in the upload, not counting a CSV header or blank lines
+        private long record;
+        private List<String> errors;
+    }
+}
@@ -0,0 +1,27 @@
+package com.suryakiran.taskmanagementtool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// A user's task counts. byStatus and byPriority are keyed by display name and list every value;
+// due splits the tasks that are not complete by due date, relative to today.
+@Getter
+@AllArgsConstructor
+public class TaskStats {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byPriority;
+    private DueCounts due;
+
+    @Getter
+    @AllArgsConstructor
+    public static class DueCounts {
+        private long overdue;
+        private long today;
+        // After today, up to and including Sunday
+        private long thisWeek;
+        private long later;
+    }
+}
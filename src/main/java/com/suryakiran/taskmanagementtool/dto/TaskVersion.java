@@ -0,0 +1,5 @@
+package com.suryakiran.taskmanagementtool.dto;
+
+// A task's ID and row version: enough to tell whether a page of tasks has changed without reading the rows
+public record TaskVersion(String id, long version) {
+}
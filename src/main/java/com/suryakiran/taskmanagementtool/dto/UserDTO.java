@@ -2,6 +2,7 @@ package com.suryakiran.taskmanagementtool.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.Date;
@@ -9,6 +10,7 @@ import java.util.List;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class UserDTO {
     private int id;
     private String firstName;
@@ -18,4 +20,13 @@ public class UserDTO {
     private List<String> roles;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "MM-dd-yyyy")
     private Date createdAt;
+
+    // Creator summary projection used by TaskDTO responses
+    public UserDTO(int id, String firstName, String lastName, String email, Date createdAt) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.createdAt = createdAt;
+    }
 }
\ No newline at end of file
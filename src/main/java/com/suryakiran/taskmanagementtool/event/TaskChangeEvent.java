@@ -0,0 +1,43 @@
+package com.suryakiran.taskmanagementtool.event;
+
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.model.Task;
+
+import java.sql.Date;
+
+// Published by TaskServiceImpl inside the transaction that writes a task, so listeners can act either before
+// the commit or once it has succeeded. previous is null for a created task and current is null for a deleted one.
+public record TaskChangeEvent(int userId, String taskId, Snapshot previous, Snapshot current) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public Type type() {
+        if (previous == null) {
+            return Type.CREATED;
+        }
+        return current == null ? Type.DELETED : Type.UPDATED;
+    }
+
+    public static TaskChangeEvent created(int userId, Task task) {
+        return new TaskChangeEvent(userId, task.getId(), null, Snapshot.of(task));
+    }
+
+    public static TaskChangeEvent updated(int userId, Snapshot previous, Task task) {
+        return new TaskChangeEvent(userId, task.getId(), previous, Snapshot.of(task));
+    }
+
+    public static TaskChangeEvent deleted(int userId, Task task) {
+        return new TaskChangeEvent(userId, task.getId(), Snapshot.of(task), null);
+    }
+
+    // The task's fields at one point in the transaction; entities may be detached or changed by the time listeners run
+    public record Snapshot(String title, String description, Status status, Priority priority, Date dueDate) {
+
+        public static Snapshot of(Task task) {
+            return new Snapshot(task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(), task.getDueDate());
+        }
+    }
+}
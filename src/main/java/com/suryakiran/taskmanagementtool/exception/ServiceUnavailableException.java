@@ -0,0 +1,17 @@
+package com.suryakiran.taskmanagementtool.exception;
+
+import java.time.Duration;
+
+// The node is at capacity for this kind of request; answered with 503 and a Retry-After header
+public class ServiceUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
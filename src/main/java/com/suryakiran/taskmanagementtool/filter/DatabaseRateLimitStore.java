@@ -0,0 +1,127 @@
+package com.suryakiran.taskmanagementtool.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.suryakiran.taskmanagementtool.model.RateLimitBucket;
+import com.suryakiran.taskmanagementtool.repository.RateLimitBucketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Cluster-wide buckets in the rate_limit_bucket table. Each node leases up to leaseSize tokens per key with a
+// compare-and-swap update and serves requests from that lease, so most requests never touch the database.
+// Tokens leased by a node are unavailable to the others, so the cluster can under-admit by at most one lease
+// per node, but never admits more than the configured limit.
+public class DatabaseRateLimitStore implements RateLimitStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseRateLimitStore.class);
+    private static final int MAX_CAS_ATTEMPTS = 5;
+
+    private final RateLimitBucketRepository repository;
+    private final long leaseSize;
+    private final Cache<Object, Lease> leases;
+
+    private static final class Lease {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long remaining;
+        // Tokens left in the shared bucket when this lease was taken
+        private long sharedRemaining;
+        // While exhausted, requests are rejected locally until the shared bucket can have refilled
+        private long retryAtNanos;
+    }
+
+    private record Grant(long granted, long remaining, long nanosToNextToken) {
+    }
+
+    public DatabaseRateLimitStore(RateLimitBucketRepository repository, long leaseSize, long maximumBuckets, Duration idleTimeout) {
+        this.repository = repository;
+        this.leaseSize = leaseSize;
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Probe tryConsume(Object key, Tier tier) {
+        Lease lease = leases.getIfPresent(key);
+        if (lease == null) {
+            lease = leases.get(key, k -> new Lease());
+        }
+        lease.lock.lock();
+        try {
+            if (lease.remaining == 0) {
+                long now = System.nanoTime();
+                if (lease.retryAtNanos != 0 && now - lease.retryAtNanos < 0) {
+                    return new Probe(false, 0, lease.retryAtNanos - now, nanosToReset(tier, 0));
+                }
+                Grant grant = acquire(String.valueOf(key), tier);
+                lease.remaining = grant.granted();
+                lease.sharedRemaining = grant.remaining();
+                if (grant.granted() == 0) {
+                    lease.retryAtNanos = now + grant.nanosToNextToken();
+                    return new Probe(false, 0, grant.nanosToNextToken(), nanosToReset(tier, 0));
+                }
+            }
+            lease.remaining--;
+            long remaining = lease.remaining + lease.sharedRemaining;
+            return new Probe(true, remaining, 0, nanosToReset(tier, remaining));
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    private Grant acquire(String key, Tier tier) {
+        long capacity = tier.capacity();
+        long periodMillis = Math.max(tier.period().toMillis(), 1);
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            long now = System.currentTimeMillis();
+            Optional<RateLimitBucket> row = repository.findById(key);
+            if (row.isEmpty()) {
+                long granted = Math.min(leaseSize, capacity);
+                try {
+                    repository.insert(key, capacity - granted, now);
+                    return new Grant(granted, capacity - granted, 0);
+                } catch (DataIntegrityViolationException e) {
+                    continue; // Another node created the bucket first
+                }
+            }
+
+            RateLimitBucket bucket = row.get();
+            long elapsed = Math.max(now - bucket.getRefilledAt(), 0);
+            long tokens;
+            long refilledAt;
+            if (elapsed >= periodMillis) {
+                tokens = capacity;
+                refilledAt = now;
+            } else {
+                // Credit whole tokens only and keep the remainder of the elapsed time for the next refill
+                long refill = elapsed * capacity / periodMillis;
+                tokens = Math.min(capacity, bucket.getTokens() + refill);
+                refilledAt = tokens == capacity ? now : bucket.getRefilledAt() + refill * periodMillis / capacity;
+            }
+            long granted = Math.min(leaseSize, tokens);
+            if (repository.compareAndSet(key, bucket.getVersion(), tokens - granted, refilledAt) == 1) {
+                long nanosToNextToken = granted > 0 ? 0
+                        : TimeUnit.MILLISECONDS.toNanos(Math.max(refilledAt + ceilDiv(periodMillis, capacity) - now, 1));
+                return new Grant(granted, tokens - granted, nanosToNextToken);
+            }
+        }
+        logger.warn("Rate limit bucket {} is contended; rejecting this request", key);
+        return new Grant(0, 0, TimeUnit.MILLISECONDS.toNanos(ceilDiv(periodMillis, capacity)));
+    }
+
+    // Approximate: the shared bucket may have been drawn down by other nodes since the lease was taken
+    private static long nanosToReset(Tier tier, long remaining) {
+        return Math.max(tier.capacity() - remaining, 0) * (tier.period().toNanos() / Math.max(tier.capacity(), 1));
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
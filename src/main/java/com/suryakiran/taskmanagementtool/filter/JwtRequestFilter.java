@@ -1,24 +1,34 @@
 package com.suryakiran.taskmanagementtool.filter;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
 import com.suryakiran.taskmanagementtool.service.CustomUserDetailsService;
+import com.suryakiran.taskmanagementtool.service.TokenBlacklistService;
 import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import com.suryakiran.taskmanagementtool.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
@@ -26,10 +36,26 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtRequestFilter.class);
     private final CustomUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final boolean stateless;
 
-    public JwtRequestFilter(CustomUserDetailsService userDetailsService, JwtUtil jwtUtil) {
+    // Stateless mode: the revocation version at which a user was last found to still hold a set of roles, kept
+    // for revalidate-interval. A check passed for some roles says nothing about a token granting more.
+    private final Cache<Claims, Long> revalidations;
+
+    private record Claims(String username, int userId, Set<String> roles) {
+    }
+
+    public JwtRequestFilter(CustomUserDetailsService userDetailsService, JwtUtil jwtUtil, TokenBlacklistService tokenBlacklistService,
+                            @Value("${security.jwt.stateless:false}") boolean stateless,
+                            @Value("${security.jwt.revalidate-interval:PT5M}") Duration revalidateInterval) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.stateless = stateless;
+        this.revalidations = Caffeine.newBuilder()
+                .expireAfterWrite(revalidateInterval)
+                .build();
     }
 
     @Override
@@ -40,11 +66,14 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         String username = null;
         String jwt = null;
+        VerifiedToken verifiedToken = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                // The token is verified and decoded once; everything below reads the parsed claims
+                verifiedToken = jwtUtil.parseToken(jwt);
+                username = verifiedToken.getSubject();
                 logger.info("Username extracted from token: {}", username);
             } catch (Exception e) {
                 logger.warn("Invalid JWT token: {}", e.getMessage());
@@ -54,29 +83,8 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         if (username != null && (SecurityContextHolder.getContext().getAuthentication() == null ||
                 SecurityContextHolder.getContext().getAuthentication().getPrincipal().equals("anonymousUser"))) {
 
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            boolean isTokenValid = jwtUtil.validateToken(jwt, userDetails);
-            logger.info("Token validation result: {}", isTokenValid);
-
-            if (isTokenValid) {
-                List<String> roles = jwtUtil.extractRoles(jwt);
-                if (roles != null) {
-                    logger.info("Roles extracted from token: {}", roles);
-                    List<SimpleGrantedAuthority> authorities = roles.stream()
-                            .map(SimpleGrantedAuthority::new)
-                            .toList();
-
-                    UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, authorities);
-                    usernamePasswordAuthenticationToken
-                            .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-                    logger.info("Authentication set for user: {}", username);
-                } else {
-                    logger.warn("No roles found in token for user: {}", username);
-                }
-            } else {
-                logger.warn("Token validation failed for token: {}", jwt);
+            if (!stateless || !authenticateFromClaims(jwt, verifiedToken, request)) {
+                authenticateFromDatabase(jwt, verifiedToken, request);
             }
         } else {
             logger.warn("Security context is already authenticated or username is null");
@@ -84,4 +92,88 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         chain.doFilter(request, response);
     }
+
+    private void authenticateFromDatabase(String jwt, VerifiedToken verifiedToken, HttpServletRequest request) {
+        String username = verifiedToken.getSubject();
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        boolean isTokenValid = jwtUtil.validateToken(verifiedToken, userDetails);
+        logger.info("Token validation result: {}", isTokenValid);
+
+        if (isTokenValid) {
+            List<String> roles = verifiedToken.getRoles();
+            if (roles != null) {
+                logger.info("Roles extracted from token: {}", roles);
+                setAuthentication(userDetails, toAuthorities(roles), request);
+                logger.info("Authentication set for user: {}", username);
+            } else {
+                logger.warn("No roles found in token for user: {}", username);
+            }
+        } else {
+            logger.warn("Token validation failed for token: {}", jwt);
+        }
+    }
+
+    // Builds the principal from the verified claims alone. Returns false when the token lacks the claims
+    // needed for that, so the caller falls back to the database path.
+    private boolean authenticateFromClaims(String jwt, VerifiedToken verifiedToken, HttpServletRequest request) {
+        String username = verifiedToken.getSubject();
+        Integer userId = verifiedToken.getUserId();
+        List<String> roles = verifiedToken.getRoles();
+        if (userId == null || roles == null) {
+            return false;
+        }
+        if (tokenBlacklistService.isBlacklisted(verifiedToken.getDigest())) {
+            logger.warn("Token validation failed for token: {}", jwt);
+            return true;
+        }
+
+        List<SimpleGrantedAuthority> authorities = toAuthorities(roles);
+        Claims claims = new Claims(username, userId, Set.copyOf(roles));
+        if (needsRevalidation(claims) && !revalidate(claims, authorities)) {
+            return true;
+        }
+        setAuthentication(new AuthenticatedUser(userId, username, "", authorities), authorities, request);
+        logger.info("Authentication set from token claims for user: {}", username);
+        return true;
+    }
+
+    private boolean needsRevalidation(Claims claims) {
+        Long revocationVersion = revalidations.getIfPresent(claims);
+        return revocationVersion == null || revocationVersion != tokenBlacklistService.getRevocationVersion();
+    }
+
+    // The user must still exist under the same id and still hold every role the token grants
+    private boolean revalidate(Claims claims, List<SimpleGrantedAuthority> authorities) {
+        long revocationVersion = tokenBlacklistService.getRevocationVersion();
+        String username = claims.username();
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (!(userDetails instanceof AuthenticatedUser user) || user.getId() != claims.userId()
+                    || !user.getAuthorities().containsAll(authorities)) {
+                logger.warn("Token claims no longer match the stored user: {}", username);
+                revalidations.invalidate(claims);
+                return false;
+            }
+        } catch (UsernameNotFoundException e) {
+            logger.warn("Token belongs to a user that no longer exists: {}", username);
+            revalidations.invalidate(claims);
+            return false;
+        }
+        revalidations.put(claims, revocationVersion);
+        return true;
+    }
+
+    private static List<SimpleGrantedAuthority> toAuthorities(List<String> roles) {
+        return roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    private static void setAuthentication(UserDetails principal, List<? extends GrantedAuthority> authorities, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+                principal, null, authorities);
+        usernamePasswordAuthenticationToken
+                .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+    }
 }
@@ -0,0 +1,34 @@
+package com.suryakiran.taskmanagementtool.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+
+import java.time.Duration;
+
+// Bucket4j buckets in a bounded map with idle eviction; each node enforces the limit on its own
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<Object, Bucket> buckets;
+
+    public LocalRateLimitStore(long maximumBuckets, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Probe tryConsume(Object key, Tier tier) {
+        Bucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, k -> Bucket.builder()
+                    .addLimit(Bandwidth.builder().capacity(tier.capacity()).refillGreedy(tier.capacity(), tier.period()).build())
+                    .build());
+        }
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        return new Probe(probe.isConsumed(), probe.getRemainingTokens(), probe.getNanosToWaitForRefill(), probe.getNanosToWaitForReset());
+    }
+}
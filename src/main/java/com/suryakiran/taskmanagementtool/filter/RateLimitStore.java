@@ -0,0 +1,17 @@
+package com.suryakiran.taskmanagementtool.filter;
+
+import java.time.Duration;
+
+// Where RateLimiterFilter keeps its buckets: in this node's memory, or shared by every node
+public interface RateLimitStore {
+
+    // Limit and precomputed header values for one role
+    record Tier(long capacity, Duration period, String limitHeader, String policyHeader) {
+    }
+
+    // Outcome of one consume attempt, as reported in the RateLimit-* headers
+    record Probe(boolean consumed, long remaining, long nanosToRetry, long nanosToReset) {
+    }
+
+    Probe tryConsume(Object key, Tier tier);
+}
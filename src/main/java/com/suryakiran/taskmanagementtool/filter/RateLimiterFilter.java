@@ -1,39 +1,106 @@
 package com.suryakiran.taskmanagementtool.filter;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
+import com.suryakiran.taskmanagementtool.config.RateLimitProperties;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
 import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+// Token-bucket limiting per client key. Registered after the Spring Security chain, so the authenticated
+// principal (if any) is available to pick the key and the role's limit.
 public class RateLimiterFilter implements Filter {
 
     private static final Logger logger = LoggerFactory.getLogger(RateLimiterFilter.class);
-    private final Bucket bucket;
 
-    public RateLimiterFilter() {
-        // Use Bandwidth.simple() with a refill of 10 tokens per minute
-        Bandwidth limit = Bandwidth.simple(10, Duration.ofMinutes(1)); // 10 requests per minute
-        this.bucket = Bucket.builder().addLimit(limit).build();
+    private final RateLimitProperties.KeyType keyType;
+    private final RateLimitStore store;
+    // Header values are built once per tier so the request path only formats the counters
+    private final Map<String, RateLimitStore.Tier> tiers = new HashMap<>();
+    private final RateLimitStore.Tier anonymousTier;
+    private final RateLimitStore.Tier defaultTier;
+
+    public RateLimiterFilter(RateLimitProperties properties) {
+        this(properties, new LocalRateLimitStore(properties.getMaximumBuckets(), properties.getIdleTimeout()));
+    }
+
+    public RateLimiterFilter(RateLimitProperties properties, RateLimitStore store) {
+        this.keyType = properties.getKey();
+        this.store = store;
+        properties.getLimits().forEach((role, limit) -> tiers.put(role, toTier(limit)));
+        this.anonymousTier = tiers.getOrDefault(RateLimitProperties.ANONYMOUS, toTier(new RateLimitProperties.Limit()));
+        this.defaultTier = tiers.getOrDefault(RateLimitProperties.DEFAULT, anonymousTier);
     }
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
-        if (bucket.tryConsume(1)) {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        RateLimitStore.Tier tier = tierFor(authentication);
+
+        Object key = keyFor(httpRequest, authentication);
+        RateLimitStore.Probe probe = store.tryConsume(key, tier);
+        httpResponse.setHeader("RateLimit-Limit", tier.limitHeader());
+        httpResponse.setHeader("RateLimit-Policy", tier.policyHeader());
+        httpResponse.setHeader("RateLimit-Remaining", Long.toString(probe.remaining()));
+        httpResponse.setHeader("RateLimit-Reset", Long.toString(toSeconds(probe.nanosToReset())));
+        if (probe.consumed()) {
             chain.doFilter(request, response);
         } else {
-            logger.warn("Rate limit exceeded for IP: {}", request.getRemoteAddr());
-            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            logger.warn("Rate limit exceeded for key: {}", key);
+            String retryAfter = Long.toString(toSeconds(probe.nanosToRetry()));
             httpResponse.setStatus(429);
-            httpResponse.setHeader("X-Rate-Limit-Retry-After-Seconds", String.valueOf(bucket.getAvailableTokens()));
+            httpResponse.setHeader("Retry-After", retryAfter);
+            httpResponse.setHeader("X-Rate-Limit-Retry-After-Seconds", retryAfter);
             httpResponse.getWriter().write("Too many requests - Rate limit exceeded");
         }
     }
 
+    private Object keyFor(HttpServletRequest request, Authentication authentication) {
+        return switch (keyType) {
+            case IP -> request.getRemoteAddr();
+            case USER -> authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                    ? (Object) user.getId() : request.getRemoteAddr();
+            case ROUTE -> request.getRequestURI();
+        };
+    }
+
+    // The most generous limit among the caller's roles
+    private RateLimitStore.Tier tierFor(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return anonymousTier;
+        }
+        RateLimitStore.Tier best = null;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            RateLimitStore.Tier tier = tiers.get(authority.getAuthority());
+            if (tier != null && (best == null || tier.capacity() > best.capacity())) {
+                best = tier;
+            }
+        }
+        return best != null ? best : defaultTier;
+    }
+
+    private static RateLimitStore.Tier toTier(RateLimitProperties.Limit limit) {
+        return new RateLimitStore.Tier(limit.getCapacity(),
+                limit.getPeriod(),
+                Long.toString(limit.getCapacity()),
+                limit.getCapacity() + ";w=" + limit.getPeriod().toSeconds());
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
         // No initialization needed
@@ -43,4 +110,4 @@ public class RateLimiterFilter implements Filter {
     public void destroy() {
         // No destruction needed
     }
-}
\ No newline at end of file
+}
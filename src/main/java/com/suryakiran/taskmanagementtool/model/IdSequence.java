@@ -0,0 +1,25 @@
+package com.suryakiran.taskmanagementtool.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "id_sequence")
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdSequence {
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+}
@@ -0,0 +1,32 @@
+package com.suryakiran.taskmanagementtool.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "rate_limit_bucket")
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitBucket {
+    @Id
+    @Column(name = "bucket_key", length = 255)
+    private String bucketKey;
+
+    @Column(name = "tokens", nullable = false)
+    private long tokens;
+
+    // Epoch millis up to which refill has been credited
+    @Column(name = "refilled_at", nullable = false)
+    private long refilledAt;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
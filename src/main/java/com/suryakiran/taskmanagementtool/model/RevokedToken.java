@@ -0,0 +1,35 @@
+package com.suryakiran.taskmanagementtool.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "revoked_token")
+@NoArgsConstructor
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq")
+    private long seq;
+
+    @Column(name = "digest", nullable = false, unique = true, length = 32)
+    private byte[] digest;
+
+    // Epoch millis of the token's exp
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    public RevokedToken(byte[] digest, long expiresAt) {
+        this.digest = digest;
+        this.expiresAt = expiresAt;
+    }
+}
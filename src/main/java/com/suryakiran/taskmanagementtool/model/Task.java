@@ -3,10 +3,12 @@ package com.suryakiran.taskmanagementtool.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotEmpty;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.sql.Date;
 
@@ -16,7 +18,7 @@ import java.sql.Date;
 @Table(name = "task")
 @NoArgsConstructor
 @AllArgsConstructor
-public class Task {
+public class Task implements Persistable<String> {
     @Id
     private String id;
 
@@ -28,7 +30,7 @@ public class Task {
     private String description;
 
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_user"))
     private User user;
 
@@ -43,4 +45,39 @@ public class Task {
     @Temporal(TemporalType.DATE)
     @Column(name = "due_date", nullable = false)
     private Date dueDate;
+
+    // Written only by TaskRepository's reminder queries, so entity updates never overwrite a stage another
+    // transaction has recorded
+    @Column(name = "reminder_stage", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private int reminderStage;
+
+    // Stamped by TaskSyncRepository just before each write commits, for delta sync
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private long changeSeq;
+
+    // Checked by every entity UPDATE and DELETE, so a write based on a stale read fails instead of overwriting
+    @Version
+    @Column(name = "version", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private long version;
+
+    // IDs are assigned before saving, so Spring Data cannot tell new tasks apart by a null id and would
+    // merge them, selecting each row first. Tasks are new until they have been persisted or loaded.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newTask = true;
+
+    @Override
+    public boolean isNew() {
+        return newTask;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newTask = false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.suryakiran.taskmanagementtool.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One of a user's task counts; written only through TaskCounterRepository's upserts
+@Getter
+@Setter
+@Entity
+@Table(name = "task_counter")
+@IdClass(TaskCounterId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounter {
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 16)
+    private Dimension dimension;
+
+    // A Status or Priority name, or an ISO due date
+    @Id
+    @Column(name = "bucket", nullable = false, length = 20)
+    private String bucket;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    public enum Dimension {
+        STATUS,
+        PRIORITY,
+        // Tasks that are not complete, by due date
+        DUE
+    }
+}
@@ -0,0 +1,20 @@
+package com.suryakiran.taskmanagementtool.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskCounterId implements Serializable {
+    private int userId;
+    private TaskCounter.Dimension dimension;
+    private String bucket;
+}
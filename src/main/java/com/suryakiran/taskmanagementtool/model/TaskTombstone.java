@@ -0,0 +1,30 @@
+package com.suryakiran.taskmanagementtool.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A deleted task, kept for delta sync until pruned; written only through TaskSyncRepository
+@Getter
+@Setter
+@Entity
+@Table(name = "task_tombstone")
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+    @Id
+    @Column(name = "task_id", nullable = false)
+    private String taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    // Epoch milliseconds
+    @Column(name = "deleted_at", nullable = false)
+    private long deletedAt;
+}
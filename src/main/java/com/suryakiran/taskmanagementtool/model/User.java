@@ -11,7 +11,6 @@ import org.slf4j.LoggerFactory;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
-import jakarta.validation.constraints.Pattern;
 import java.util.Date;
 import java.util.Set;
 import java.util.List;
@@ -39,9 +38,8 @@ public class User {
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
 
+    // Holds the BCrypt hash; the raw password's rules are checked by UserRegistrationDTO and UserServiceImpl
     @JsonIgnore
-    @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$",
-            message = "Password must have at least 1 uppercase, 1 lowercase, 1 number, 1 special character and be at least 8 characters long")
     @Column(name = "password", nullable = false, length = 255)
     private String password;
 
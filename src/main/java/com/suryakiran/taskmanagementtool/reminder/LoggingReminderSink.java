@@ -0,0 +1,18 @@
+package com.suryakiran.taskmanagementtool.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// Default sink: writes each reminder to the application log
+@Component
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(TaskReminder reminder) {
+        logger.info("Task {} of user {} is {}: {} (due {})", reminder.taskId(), reminder.userId(),
+                reminder.kind() == TaskReminder.Kind.OVERDUE ? "overdue" : "due soon", reminder.title(), reminder.dueDate());
+    }
+}
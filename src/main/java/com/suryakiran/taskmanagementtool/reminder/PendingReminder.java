@@ -0,0 +1,11 @@
+package com.suryakiran.taskmanagementtool.reminder;
+
+import java.sql.Date;
+
+// An open task whose reminders have not all been sent; stage is its task.reminder_stage when it was read
+public record PendingReminder(String taskId, int userId, Date dueDate, int stage) {
+
+    public PendingReminder withStage(int stage) {
+        return new PendingReminder(taskId, userId, dueDate, stage);
+    }
+}
@@ -0,0 +1,9 @@
+package com.suryakiran.taskmanagementtool.reminder;
+
+// Receives task reminders on a reminder worker thread. Every ReminderSink bean gets every reminder, so
+// notification channels are added by declaring another bean. Implementations should not block for long:
+// the worker pool is small and a full queue slows the scheduler down.
+public interface ReminderSink {
+
+    void deliver(TaskReminder reminder);
+}
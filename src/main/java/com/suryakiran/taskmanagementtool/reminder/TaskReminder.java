@@ -0,0 +1,25 @@
+package com.suryakiran.taskmanagementtool.reminder;
+
+import java.sql.Date;
+
+// A notice about one task, handed to every ReminderSink
+public record TaskReminder(String taskId, int userId, String title, Date dueDate, Kind kind) {
+
+    public enum Kind {
+        // The lead time before the end of the due date has been reached
+        DUE_SOON(1),
+        // The due date has passed and the task is still open
+        OVERDUE(2);
+
+        // Value of task.reminder_stage once this notice has been sent
+        private final int stage;
+
+        Kind(int stage) {
+            this.stage = stage;
+        }
+
+        public int getStage() {
+            return stage;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.suryakiran.taskmanagementtool.reminder;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Sends a due-soon reminder and an overdue notice for every open task. Only tasks due within the horizon have
+// timers, held in a TimingWheel: loaded from the database on startup, extended a day at a time as the horizon
+// moves (a range scan of idx_task_reminder over the new days), and kept current by TaskChangeEvents.
+// Expired timers are handed in batches to a bounded worker pool, which records the stage in task.reminder_stage
+// with a conditional update and then passes the reminder to every ReminderSink. The update succeeds once per task
+// and stage, so a restart does not repeat reminders and, with several nodes, each one is sent by a single node.
+@Component
+public class TaskReminderScheduler implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskReminderScheduler.class);
+    private static final int BATCH_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+    private final List<ReminderSink> sinks;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ZoneId zone;
+    private final Duration leadTime;
+    private final int horizonDays;
+    private final Duration tick;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService ticker;
+
+    // Guards the wheel and loadedThrough, which request threads change through events
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimingWheel<String, PendingReminder> wheel;
+    // Last due date whose tasks are all in the wheel
+    private LocalDate loadedThrough;
+
+    private record Fired(PendingReminder reminder, TaskReminder.Kind kind) {
+    }
+
+    public TaskReminderScheduler(TaskRepository taskRepository, List<ReminderSink> sinks,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${task.reminder.zone:}") String zone,
+                                 @Value("${task.reminder.lead-time:PT24H}") Duration leadTime,
+                                 @Value("${task.reminder.horizon-days:2}") int horizonDays,
+                                 @Value("${task.reminder.tick:PT1S}") Duration tick,
+                                 @Value("${task.reminder.workers:2}") int workers,
+                                 @Value("${task.reminder.queue-capacity:64}") int queueCapacity) {
+        this.taskRepository = taskRepository;
+        this.sinks = sinks;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.leadTime = leadTime;
+        this.horizonDays = horizonDays;
+        this.tick = tick;
+        this.wheel = new TimingWheel<>(tick.toMillis(), System.currentTimeMillis());
+        AtomicInteger threads = new AtomicInteger();
+        // When every worker is busy and the queue is full, the ticker delivers the batch itself and falls behind
+        // instead of buffering without bound
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "task-reminder-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-reminder-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        extendHorizon(Instant.now());
+        logger.info("Scheduled reminders for {} tasks due through {}", pending(), loadedThrough);
+        ticker.scheduleWithFixedDelay(() -> {
+            try {
+                advanceTo(Instant.now());
+            } catch (RuntimeException e) {
+                logger.error("Reminder tick failed", e);
+            }
+        }, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // Fires every timer due by now; called by the ticker, and by tests to move time forward
+    public synchronized void advanceTo(Instant now) {
+        extendHorizon(now);
+        List<Fired> fired = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(now.toEpochMilli(), (taskId, reminder) -> {
+                Instant overdueAt = overdueAt(reminder.dueDate());
+                if (now.isBefore(overdueAt)) {
+                    fired.add(new Fired(reminder, TaskReminder.Kind.DUE_SOON));
+                    wheel.schedule(taskId, overdueAt.toEpochMilli(), reminder.withStage(TaskReminder.Kind.DUE_SOON.getStage()));
+                } else {
+                    // Past due already (after downtime, say): a due-soon reminder would be stale
+                    fired.add(new Fired(reminder, TaskReminder.Kind.OVERDUE));
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+        for (int from = 0; from < fired.size(); from += BATCH_SIZE) {
+            List<Fired> batch = fired.subList(from, Math.min(from + BATCH_SIZE, fired.size()));
+            workers.execute(() -> deliver(batch));
+        }
+    }
+
+    // A new due date starts the reminders over; this runs in the writing transaction so the reset commits with it
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void resetOnDueDateChange(TaskChangeEvent event) {
+        if (event.type() == TaskChangeEvent.Type.UPDATED && dueDateChanged(event)) {
+            taskRepository.resetReminderStage(event.taskId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        TaskChangeEvent.Snapshot current = event.current();
+        lock.lock();
+        try {
+            if (current == null || current.status() == Status.COMPLETE || current.dueDate() == null) {
+                wheel.cancel(event.taskId());
+                return;
+            }
+            // Other edits leave the timer as it is
+            if (event.previous() != null && !dueDateChanged(event) && event.previous().status() != Status.COMPLETE) {
+                return;
+            }
+            wheel.cancel(event.taskId());
+            // Beyond the horizon the task is picked up from the database once the horizon reaches it
+            if (loadedThrough != null && !current.dueDate().toLocalDate().isAfter(loadedThrough)) {
+                schedule(new PendingReminder(event.taskId(), event.userId(), current.dueDate(), 0));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int pending() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("task.reminders.pending", this, TaskReminderScheduler::pending)
+                .description("Task reminders scheduled within the horizon")
+                .register(registry);
+    }
+
+    // Loads the tasks due in the days the horizon has moved over. loadedThrough moves first, so a task written
+    // while the query runs is scheduled by its event; the query never replaces a timer, which may be newer.
+    private void extendHorizon(Instant now) {
+        LocalDate through = LocalDate.ofInstant(now.plus(leadTime), zone).plusDays(horizonDays);
+        LocalDate after;
+        lock.lock();
+        try {
+            if (loadedThrough != null && !through.isAfter(loadedThrough)) {
+                return;
+            }
+            after = loadedThrough;
+            loadedThrough = through;
+        } finally {
+            lock.unlock();
+        }
+        readTransaction.executeWithoutResult(status -> {
+            try (Stream<PendingReminder> reminders = after == null
+                    ? taskRepository.streamPendingReminders(Date.valueOf(through))
+                    : taskRepository.streamPendingReminders(Date.valueOf(after), Date.valueOf(through))) {
+                reminders.forEach(reminder -> {
+                    lock.lock();
+                    try {
+                        if (!wheel.contains(reminder.taskId())) {
+                            schedule(reminder);
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                });
+            }
+        });
+    }
+
+    private void schedule(PendingReminder reminder) {
+        Instant overdueAt = overdueAt(reminder.dueDate());
+        Instant deadline = reminder.stage() == 0 ? overdueAt.minus(leadTime) : overdueAt;
+        wheel.schedule(reminder.taskId(), deadline.toEpochMilli(), reminder);
+    }
+
+    // A task is due until the end of its due date
+    private Instant overdueAt(Date dueDate) {
+        return dueDate.toLocalDate().plusDays(1).atStartOfDay(zone).toInstant();
+    }
+
+    private void deliver(List<Fired> batch) {
+        List<TaskReminder> reminders = writeTransaction.execute(status -> {
+            Map<String, TaskDTO> tasks = taskRepository.findDtosByIdIn(batch.stream().map(fired -> fired.reminder().taskId()).toList())
+                    .stream().collect(Collectors.toMap(TaskDTO::getId, Function.identity()));
+            List<TaskReminder> sent = new ArrayList<>(batch.size());
+            for (Fired fired : batch) {
+                PendingReminder reminder = fired.reminder();
+                TaskDTO task = tasks.get(reminder.taskId());
+                if (task != null && taskRepository.advanceReminderStage(reminder.taskId(), reminder.dueDate(), fired.kind().getStage()) == 1) {
+                    sent.add(new TaskReminder(reminder.taskId(), reminder.userId(), task.getTitle(), reminder.dueDate(), fired.kind()));
+                }
+            }
+            return sent;
+        });
+        for (TaskReminder reminder : reminders) {
+            for (ReminderSink sink : sinks) {
+                try {
+                    sink.deliver(reminder);
+                } catch (RuntimeException e) {
+                    logger.warn("Reminder sink {} failed for task {}", sink.getClass().getSimpleName(), reminder.taskId(), e);
+                }
+            }
+        }
+    }
+
+    private static boolean dueDateChanged(TaskChangeEvent event) {
+        Date previous = event.previous().dueDate();
+        Date current = event.current().dueDate();
+        return previous == null || current == null || !previous.toLocalDate().equals(current.toLocalDate());
+    }
+}
@@ -0,0 +1,166 @@
+package com.suryakiran.taskmanagementtool.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+// Hierarchical timing wheel: LEVELS wheels of SLOTS slots, where a slot on one level spans a whole turn of the
+// level below. A timer sits on the lowest level whose current turn contains its deadline and moves down as
+// time reaches its slot, so scheduling and cancelling are O(1) and each timer is touched at most once per level.
+// Deadlines beyond the top level's turn wait in an overflow list until it wraps. Timers are keyed, scheduling
+// an existing key replaces its timer. Not thread-safe.
+public class TimingWheel<K, V> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final Timer<K, V>[][] wheels;
+    private final Timer<K, V> expired = Timer.sentinel();
+    private final Timer<K, V> overflow = Timer.sentinel();
+    private final Map<K, Timer<K, V>> timers = new HashMap<>();
+    private long currentTick;
+
+    private static final class Timer<K, V> {
+        private final K key;
+        private final V value;
+        private final long deadlineTick;
+        private Timer<K, V> previous = this;
+        private Timer<K, V> next = this;
+
+        private Timer(K key, V value, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private static <K, V> Timer<K, V> sentinel() {
+            return new Timer<>(null, null, 0);
+        }
+
+        private void append(Timer<K, V> timer) {
+            timer.previous = previous;
+            timer.next = this;
+            previous.next = timer;
+            previous = timer;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = this;
+            next = this;
+        }
+
+        // Detaches every timer from this list, leaving each one unlinked
+        private List<Timer<K, V>> drain() {
+            List<Timer<K, V>> drained = new ArrayList<>();
+            while (next != this) {
+                Timer<K, V> timer = next;
+                timer.unlink();
+                drained.add(timer);
+            }
+            return drained;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new Timer[LEVELS][SLOTS];
+        for (Timer<K, V>[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[slot] = Timer.sentinel();
+            }
+        }
+    }
+
+    // Fires on the first advance at or after deadlineMillis; a deadline already passed fires on the next advance
+    public void schedule(K key, long deadlineMillis, V value) {
+        cancel(key);
+        // Rounded up, so a timer never fires early
+        Timer<K, V> timer = new Timer<>(key, value, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        timers.put(key, timer);
+        place(timer);
+    }
+
+    public boolean cancel(K key) {
+        Timer<K, V> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        timer.unlink();
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return timers.containsKey(key);
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    // Moves time forward to nowMillis and hands every timer that has come due to onExpired, in deadline order
+    // within each tick. Time never moves backwards.
+    public void advance(long nowMillis, BiConsumer<K, V> onExpired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        fire(expired, onExpired);
+        while (currentTick < targetTick) {
+            if (timers.isEmpty()) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick++;
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    if (level == LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+                        cascade(overflow);
+                    }
+                    cascade(wheels[level][(int) (currentTick >>> (SLOT_BITS * level)) & (SLOTS - 1)]);
+                }
+            }
+            // Timers cascaded down to exactly this tick were placed with the expired ones
+            fire(expired, onExpired);
+            fire(wheels[0][(int) currentTick & (SLOTS - 1)], onExpired);
+        }
+    }
+
+    private void place(Timer<K, V> timer) {
+        if (timer.deadlineTick <= currentTick) {
+            expired.append(timer);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            // The lowest level whose current turn contains the deadline
+            if (timer.deadlineTick >>> shift == currentTick >>> shift) {
+                wheels[level][(int) (timer.deadlineTick >>> (SLOT_BITS * level)) & (SLOTS - 1)].append(timer);
+                return;
+            }
+        }
+        overflow.append(timer);
+    }
+
+    private void cascade(Timer<K, V> slot) {
+        if (slot.next != slot) {
+            slot.drain().forEach(this::place);
+        }
+    }
+
+    // A callback may cancel or reschedule timers drained alongside its own; those are skipped
+    private void fire(Timer<K, V> slot, BiConsumer<K, V> onExpired) {
+        if (slot.next == slot) {
+            return;
+        }
+        for (Timer<K, V> timer : slot.drain()) {
+            if (timers.remove(timer.key, timer)) {
+                onExpired.accept(timer.key, timer.value);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.model.RateLimitBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO rate_limit_bucket (bucket_key, tokens, refilled_at, version) VALUES (:key, :tokens, :refilledAt, 0)",
+            nativeQuery = true)
+    void insert(@Param("key") String key, @Param("tokens") long tokens, @Param("refilledAt") long refilledAt);
+
+    // Compare-and-swap: only applies when nobody else updated the bucket since it was read
+    @Transactional
+    @Modifying
+    @Query("UPDATE RateLimitBucket b SET b.tokens = :tokens, b.refilledAt = :refilledAt, b.version = b.version + 1 "
+            + "WHERE b.bucketKey = :key AND b.version = :version")
+    int compareAndSet(@Param("key") String key, @Param("version") long version,
+                      @Param("tokens") long tokens, @Param("refilledAt") long refilledAt);
+}
@@ -0,0 +1,23 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.model.RevokedToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    @Query("SELECT r FROM RevokedToken r WHERE r.seq > :seq AND r.expiresAt > :now ORDER BY r.seq")
+    List<RevokedToken> findChangesAfter(@Param("seq") long seq, @Param("now") long now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :before")
+    int deleteExpired(@Param("before") long before);
+}
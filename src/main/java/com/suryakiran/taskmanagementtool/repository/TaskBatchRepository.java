@@ -0,0 +1,6 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+// Bulk writes: lets a long batch push its pending statements to JDBC and drop the entities it no longer needs
+public interface TaskBatchRepository {
+    void flushAndClear();
+}
@@ -0,0 +1,16 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class TaskBatchRepositoryImpl implements TaskBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
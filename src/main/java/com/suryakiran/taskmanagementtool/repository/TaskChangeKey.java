@@ -0,0 +1,15 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import java.util.Comparator;
+
+// Position of a task or tombstone in a user's change feed: the sequence number of the write, then the task ID
+public record TaskChangeKey(String id, long changeSeq) implements Comparable<TaskChangeKey> {
+
+    private static final Comparator<TaskChangeKey> ORDER =
+            Comparator.comparingLong(TaskChangeKey::changeSeq).thenComparing(TaskChangeKey::id);
+
+    @Override
+    public int compareTo(TaskChangeKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,11 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.model.TaskCounter;
+
+import java.util.List;
+
+// Applies a transaction's counter changes as one JDBC batch of upserts, in the order given
+public interface TaskCounterBatchRepository {
+    // The taskCount of each entry is the amount to add
+    void incrementAll(List<TaskCounter> deltas);
+}
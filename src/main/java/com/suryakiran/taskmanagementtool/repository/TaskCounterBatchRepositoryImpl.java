@@ -0,0 +1,37 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.model.TaskCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+public class TaskCounterBatchRepositoryImpl implements TaskCounterBatchRepository {
+
+    private static final String INCREMENT = "INSERT INTO task_counter (user_id, dimension, bucket, task_count) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE task_count = task_count + VALUES(task_count)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void incrementAll(List<TaskCounter> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INCREMENT)) {
+                for (TaskCounter delta : deltas) {
+                    statement.setInt(1, delta.getUserId());
+                    statement.setString(2, delta.getDimension().name());
+                    statement.setString(3, delta.getBucket());
+                    statement.setLong(4, delta.getTaskCount());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
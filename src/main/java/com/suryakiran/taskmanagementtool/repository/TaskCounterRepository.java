@@ -0,0 +1,30 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.model.TaskCounter;
+import com.suryakiran.taskmanagementtool.model.TaskCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounterId>, TaskCounterBatchRepository {
+    List<TaskCounter> findByUserId(int userId);
+
+    // Holds the user's counters until the transaction ends; counter updates of committing task writes wait
+    @Query(value = "SELECT * FROM task_counter WHERE user_id = :userId ORDER BY dimension, bucket FOR UPDATE", nativeQuery = true)
+    List<TaskCounter> lockByUserId(@Param("userId") int userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_counter (user_id, dimension, bucket, task_count) VALUES (:userId, :dimension, :bucket, :count) "
+            + "ON DUPLICATE KEY UPDATE task_count = :count", nativeQuery = true)
+    void set(@Param("userId") int userId, @Param("dimension") String dimension, @Param("bucket") String bucket,
+             @Param("count") long count);
+
+    @Modifying
+    @Query("DELETE FROM TaskCounter c WHERE c.userId = :userId AND c.dimension = :dimension AND c.bucket = :bucket")
+    void delete(@Param("userId") int userId, @Param("dimension") TaskCounter.Dimension dimension, @Param("bucket") String bucket);
+}
@@ -0,0 +1,57 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Position of the last row of a keyset page, exchanged with clients as an opaque token
+@Getter
+public class TaskCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final TaskSortKey sortKey;
+    private final Sort.Direction direction;
+    private final String lastValue;
+    private final String lastId;
+
+    public TaskCursor(TaskSortKey sortKey, Sort.Direction direction, String lastValue, String lastId) {
+        this.sortKey = sortKey;
+        this.direction = direction;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    public static TaskCursor after(TaskSortKey sortKey, Sort.Direction direction, TaskDTO last) {
+        return new TaskCursor(sortKey, direction, sortKey.valueOf(last), last.getId());
+    }
+
+    public Comparable<?> getTypedLastValue() {
+        return sortKey.parse(lastValue);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortKey.name(), direction.name(), lastId, lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The sort value goes last because titles may contain the separator
+            String[] parts = raw.split("\\" + SEPARATOR, 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            TaskCursor cursor = new TaskCursor(TaskSortKey.valueOf(parts[1]), Sort.Direction.valueOf(parts[2]), parts[4], parts[3]);
+            cursor.getTypedLastValue();
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+
+import java.sql.Date;
+
+// Number of a user's tasks sharing a status, priority and due date
+public record TaskGroupCount(Status status, Priority priority, Date dueDate, long count) {
+}
@@ -0,0 +1,21 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.TaskVersion;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+// Keyset (seek) pagination over a user's tasks: no OFFSET, no COUNT
+public interface TaskKeysetRepository {
+    List<TaskDTO> findPageAfter(int userId, Status status, Priority priority,
+                                TaskSortKey sortKey, Sort.Direction direction, TaskCursor after, int limit);
+
+    // The same page as findPageAfter, as IDs and versions only
+    List<TaskVersion> findVersionsAfter(int userId, Status status, Priority priority,
+                                        TaskSortKey sortKey, Sort.Direction direction, TaskCursor after, int limit);
+
+    long countMatching(int userId, Status status, Priority priority);
+}
@@ -0,0 +1,114 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.TaskVersion;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.model.Task;
+import com.suryakiran.taskmanagementtool.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+public class TaskKeysetRepositoryImpl implements TaskKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskDTO> findPageAfter(int userId, Status status, Priority priority,
+                                       TaskSortKey sortKey, Sort.Direction direction, TaskCursor after, int limit) {
+        return pageAfter(TaskDTO.class, (cb, task) -> {
+            Join<Task, User> user = task.join("user", JoinType.LEFT);
+            // Same projection as TaskRepository.TASK_DTO_SELECT
+            return cb.construct(TaskDTO.class,
+                    task.get("id"), task.get("title"), task.get("description"), task.get("status"),
+                    task.get("priority"), task.get("dueDate"), user.get("id"), user.get("firstName"),
+                    user.get("lastName"), user.get("email"), user.get("createdAt"), task.get("version"));
+        }, userId, status, priority, sortKey, direction, after, limit);
+    }
+
+    @Override
+    public List<TaskVersion> findVersionsAfter(int userId, Status status, Priority priority,
+                                               TaskSortKey sortKey, Sort.Direction direction, TaskCursor after, int limit) {
+        return pageAfter(TaskVersion.class, (cb, task) -> cb.construct(TaskVersion.class, task.get("id"), task.get("version")),
+                userId, status, priority, sortKey, direction, after, limit);
+    }
+
+    private <R> List<R> pageAfter(Class<R> type, BiFunction<CriteriaBuilder, Root<Task>, Selection<R>> selection,
+                                  int userId, Status status, Priority priority,
+                                  TaskSortKey sortKey, Sort.Direction direction, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(type);
+        Root<Task> task = query.from(Task.class);
+
+        Path<Comparable<Object>> key = task.get(sortKey.getProperty());
+        Path<Comparable<Object>> id = task.get("id");
+        List<Predicate> predicates = filters(cb, task, userId, status, priority);
+        if (after != null) {
+            // (key, id) > (lastKey, lastId), written as "key >= lastKey AND (key > lastKey OR id > lastId)"
+            // so the leading range condition can seek into the (user_id, key, id) index
+            Comparable<Object> lastValue = typed(after.getTypedLastValue());
+            Comparable<Object> lastId = typed(after.getLastId());
+            boolean ascending = direction.isAscending();
+            if (sortKey == TaskSortKey.ID) {
+                predicates.add(beyond(cb, id, lastId, ascending));
+            } else {
+                predicates.add(ascending ? cb.greaterThanOrEqualTo(key, lastValue) : cb.lessThanOrEqualTo(key, lastValue));
+                predicates.add(cb.or(beyond(cb, key, lastValue, ascending), beyond(cb, id, lastId, ascending)));
+            }
+        }
+        query.select(selection.apply(cb, task))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(direction.isAscending()
+                        ? List.of(cb.asc(key), cb.asc(id))
+                        : List.of(cb.desc(key), cb.desc(id)));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(int userId, Status status, Priority priority) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.count(task))
+                .where(filters(cb, task, userId, status, priority).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> filters(CriteriaBuilder cb, Root<Task> task, int userId, Status status, Priority priority) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(task.get("user").get("id"), userId));
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+        if (priority != null) {
+            predicates.add(cb.equal(task.get("priority"), priority));
+        }
+        return predicates;
+    }
+
+    private Predicate beyond(CriteriaBuilder cb, Expression<Comparable<Object>> path, Comparable<Object> value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> typed(Comparable<?> value) {
+        return (Comparable<Object>) value;
+    }
+}
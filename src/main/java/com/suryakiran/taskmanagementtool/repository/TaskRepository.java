@@ -1,27 +1,135 @@
 package com.suryakiran.taskmanagementtool.repository;
 
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.TaskVersion;
 import com.suryakiran.taskmanagementtool.model.Task;
 import com.suryakiran.taskmanagementtool.model.Status;
 import com.suryakiran.taskmanagementtool.model.Priority;
-import com.suryakiran.taskmanagementtool.model.User;
+import com.suryakiran.taskmanagementtool.reminder.PendingReminder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Date;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, String> {
-    boolean existsById(String id);
+public interface TaskRepository extends JpaRepository<Task, String>, TaskKeysetRepository, TaskBatchRepository {
+    // Read-only projection: the TaskDTO columns plus the creator, in one statement and without managed entities
+    String TASK_DTO_SELECT = "SELECT new com.suryakiran.taskmanagementtool.dto.TaskDTO("
+            + "t.id, t.title, t.description, t.status, t.priority, t.dueDate, "
+            + "u.id, u.firstName, u.lastName, u.email, u.createdAt, t.version) "
+            + "FROM Task t LEFT JOIN t.user u ";
+
+    // Open tasks with reminders still to send (idx_task_reminder). The stages are listed rather than bounded, so
+    // the leading reminder_stage column is matched by equality and the index narrows on status and due_date too.
+    String PENDING_REMINDER_SELECT = "SELECT new com.suryakiran.taskmanagementtool.reminder.PendingReminder("
+            + "t.id, t.user.id, t.dueDate, t.reminderStage) FROM Task t "
+            + "WHERE t.reminderStage IN (0, 1) AND t.status IN (com.suryakiran.taskmanagementtool.model.Status.TO_DO, "
+            + "com.suryakiran.taskmanagementtool.model.Status.IN_PROGRESS) ";
+
+    // Rows fetched per round trip while streaming; on MySQL this needs useCursorFetch=true on the JDBC URL,
+    // otherwise the driver reads the whole result into memory before returning the first row
+    String STREAM_FETCH_SIZE = "1000";
 
-    @Query("SELECT t FROM Task t WHERE (:status IS NULL OR t.status = :status) OR (:priority IS NULL OR t.priority = :priority)")
-    Page<Task> findByStatusOrPriority(@Param("status") Status status, @Param("priority") Priority priority, Pageable pageable);
+    boolean existsById(String id);
 
-    Page<Task> findByUser(User user, Pageable pageable);
-    Optional<Task> findByIdAndUser(String id, User user);
-    Page<Task> findByUserAndStatusAndPriority(User user, Status status, Priority priority, Pageable pageable);
+    Optional<Task> findByIdAndUserId(String id, int userId);
     boolean existsByIdAndUserId(String id, int userId);
-}
\ No newline at end of file
+
+    List<Task> findByIdInAndUserId(Collection<String> ids, int userId);
+
+    // Forward-only cursor over a user's tasks for export; must be consumed and closed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TASK_DTO_SELECT + "WHERE u.id = :userId ORDER BY t.id")
+    Stream<TaskDTO> streamDtosByUserId(@Param("userId") int userId);
+
+    // Every task with its owner, for rebuilding in-memory indexes on startup
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TASK_DTO_SELECT + "ORDER BY t.id")
+    Stream<TaskDTO> streamAllDtos();
+
+    @Query(TASK_DTO_SELECT + "WHERE t.id IN :ids")
+    List<TaskDTO> findDtosByIdIn(@Param("ids") Collection<String> ids);
+
+    // Everything pending due on or before through, for loading the reminder wheel on startup
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(PENDING_REMINDER_SELECT + "AND t.dueDate <= :through")
+    Stream<PendingReminder> streamPendingReminders(@Param("through") Date through);
+
+    // The days the reminder horizon has just moved over
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(PENDING_REMINDER_SELECT + "AND t.dueDate > :after AND t.dueDate <= :through")
+    Stream<PendingReminder> streamPendingReminders(@Param("after") Date after, @Param("through") Date through);
+
+    // One user's task counts for reconciling task_counter; read from idx_task_user_status_priority_due_date alone
+    @Query("SELECT new com.suryakiran.taskmanagementtool.repository.TaskGroupCount(t.status, t.priority, t.dueDate, COUNT(t)) "
+            + "FROM Task t WHERE t.user.id = :userId GROUP BY t.status, t.priority, t.dueDate")
+    List<TaskGroupCount> countGroupedByUserId(@Param("userId") int userId);
+
+    // Records that a reminder stage was sent. Matches nothing if the stage was already reached (by another node,
+    // say), or the task has since been completed, deleted or given another due date.
+    @Modifying
+    @Query(value = "UPDATE task SET reminder_stage = :stage WHERE id = :id AND reminder_stage < :stage "
+            + "AND due_date = :dueDate AND status <> 'COMPLETE'", nativeQuery = true)
+    int advanceReminderStage(@Param("id") String id, @Param("dueDate") Date dueDate, @Param("stage") int stage);
+
+    @Modifying
+    @Query(value = "UPDATE task SET reminder_stage = 0 WHERE id = :id AND reminder_stage <> 0", nativeQuery = true)
+    int resetReminderStage(@Param("id") String id);
+
+    // Tasks written after a change feed position (idx_task_user_change)
+    @Query("SELECT new com.suryakiran.taskmanagementtool.repository.TaskChangeKey(t.id, t.changeSeq) FROM Task t "
+            + "WHERE t.user.id = :userId AND (t.changeSeq > :seq OR (t.changeSeq = :seq AND t.id > :id)) "
+            + "ORDER BY t.changeSeq, t.id")
+    List<TaskChangeKey> findChangeKeysAfter(@Param("userId") int userId, @Param("seq") long seq, @Param("id") String id, Limit limit);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.id IN :ids AND u.id = :userId")
+    List<TaskDTO> findDtosByIdInAndUserId(@Param("ids") Collection<String> ids, @Param("userId") int userId);
+
+    @Query(value = TASK_DTO_SELECT,
+            countQuery = "SELECT COUNT(t) FROM Task t")
+    Page<TaskDTO> findAllDtos(Pageable pageable);
+
+    // Conditional requests: answered from the primary key alone, without reading the task
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id AND t.user.id = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") String id, @Param("userId") int userId);
+
+    // The IDs and versions of the page findDtosByUserIdAndStatusAndPriority returns for the same arguments
+    @Query("SELECT new com.suryakiran.taskmanagementtool.dto.TaskVersion(t.id, t.version) FROM Task t WHERE t.user.id = :userId "
+            + "AND (:status IS NULL OR t.status = :status) AND (:priority IS NULL OR t.priority = :priority)")
+    List<TaskVersion> findVersionsByUserIdAndStatusAndPriority(@Param("userId") int userId, @Param("status") Status status,
+                                                               @Param("priority") Priority priority, Pageable pageable);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.id = :id")
+    Optional<TaskDTO> findDtoById(@Param("id") String id);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.id = :id AND u.id = :userId")
+    Optional<TaskDTO> findDtoByIdAndUserId(@Param("id") String id, @Param("userId") int userId);
+
+    @Query(value = TASK_DTO_SELECT + "WHERE u.id = :userId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId")
+    Page<TaskDTO> findDtosByUserId(@Param("userId") int userId, Pageable pageable);
+
+    @Query(value = TASK_DTO_SELECT + "WHERE u.id = :userId "
+            + "AND (:status IS NULL OR t.status = :status) AND (:priority IS NULL OR t.priority = :priority)",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId "
+                    + "AND (:status IS NULL OR t.status = :status) AND (:priority IS NULL OR t.priority = :priority)")
+    Page<TaskDTO> findDtosByUserIdAndStatusAndPriority(@Param("userId") int userId, @Param("status") Status status,
+                                                       @Param("priority") Priority priority, Pageable pageable);
+
+    @Query(value = TASK_DTO_SELECT + "WHERE (:status IS NULL OR t.status = :status) OR (:priority IS NULL OR t.priority = :priority)",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE (:status IS NULL OR t.status = :status) OR (:priority IS NULL OR t.priority = :priority)")
+    Page<TaskDTO> findDtosByStatusOrPriority(@Param("status") Status status, @Param("priority") Priority priority, Pageable pageable);
+}
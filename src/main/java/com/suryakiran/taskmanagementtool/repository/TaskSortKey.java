@@ -0,0 +1,65 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+
+import java.sql.Date;
+
+// Sort keys allowed for keyset pagination. Every key is paired with the task id as a tie-breaker.
+public enum TaskSortKey {
+    DUE_DATE("dueDate") {
+        @Override
+        public String valueOf(TaskDTO task) {
+            return task.getDueDate().toString();
+        }
+
+        @Override
+        public Comparable<?> parse(String value) {
+            return Date.valueOf(value);
+        }
+    },
+    TITLE("title") {
+        @Override
+        public String valueOf(TaskDTO task) {
+            return task.getTitle();
+        }
+
+        @Override
+        public Comparable<?> parse(String value) {
+            return value;
+        }
+    },
+    ID("id") {
+        @Override
+        public String valueOf(TaskDTO task) {
+            return task.getId();
+        }
+
+        @Override
+        public Comparable<?> parse(String value) {
+            return value;
+        }
+    };
+
+    private final String property;
+
+    TaskSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public abstract String valueOf(TaskDTO task);
+
+    public abstract Comparable<?> parse(String value);
+
+    public static TaskSortKey fromProperty(String property) {
+        for (TaskSortKey key : TaskSortKey.values()) {
+            if (key.property.equalsIgnoreCase(property)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort key: " + property);
+    }
+}
@@ -0,0 +1,14 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+// Records one user's part of a committing transaction in the change feed, as a few JDBC statements
+public interface TaskSyncRepository {
+    // Takes the user's next sequence number, locking their sequence row until the transaction ends, and stamps it
+    // on the changed tasks and on a tombstone for each deleted task; returns the number taken
+    long recordChanges(int userId, Collection<String> changedIds, Collection<String> deletedIds);
+
+    // Users whose sequence moved at or after since (epoch millis, idx_task_sync_changed_at)
+    List<TaskSyncState> findStatesChangedSince(long since);
+}
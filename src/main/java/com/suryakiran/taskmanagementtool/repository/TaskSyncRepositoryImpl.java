@@ -0,0 +1,86 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class TaskSyncRepositoryImpl implements TaskSyncRepository {
+
+    private static final String NEXT_SEQ = "INSERT INTO task_sync (user_id, change_seq, changed_at) VALUES (?, 1, ?) "
+            + "ON DUPLICATE KEY UPDATE change_seq = change_seq + 1, changed_at = VALUES(changed_at)";
+    private static final String CURRENT_SEQ = "SELECT change_seq FROM task_sync WHERE user_id = ?";
+    private static final String STAMP_TASK = "UPDATE task SET change_seq = ? WHERE id = ?";
+    private static final String TOMBSTONE = "INSERT INTO task_tombstone (task_id, user_id, change_seq, deleted_at) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE change_seq = VALUES(change_seq), deleted_at = VALUES(deleted_at)";
+    private static final String CHANGED_SINCE = "SELECT user_id, change_seq, pruned_seq FROM task_sync WHERE changed_at >= ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long recordChanges(int userId, Collection<String> changedIds, Collection<String> deletedIds) {
+        // Inserts still pending in the session would otherwise miss their stamp
+        entityManager.flush();
+        long now = System.currentTimeMillis();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(NEXT_SEQ)) {
+                statement.setInt(1, userId);
+                statement.setLong(2, now);
+                statement.executeUpdate();
+            }
+            long seq;
+            try (PreparedStatement statement = connection.prepareStatement(CURRENT_SEQ)) {
+                statement.setInt(1, userId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    seq = resultSet.getLong(1);
+                }
+            }
+            if (!changedIds.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(STAMP_TASK)) {
+                    for (String id : changedIds) {
+                        statement.setLong(1, seq);
+                        statement.setString(2, id);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            if (!deletedIds.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(TOMBSTONE)) {
+                    for (String id : deletedIds) {
+                        statement.setString(1, id);
+                        statement.setInt(2, userId);
+                        statement.setLong(3, seq);
+                        statement.setLong(4, now);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            return seq;
+        });
+    }
+
+    @Override
+    public List<TaskSyncState> findStatesChangedSince(long since) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            List<TaskSyncState> states = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(CHANGED_SINCE)) {
+                statement.setLong(1, since);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        states.add(new TaskSyncState(resultSet.getInt(1), resultSet.getLong(2), resultSet.getLong(3)));
+                    }
+                }
+            }
+            return states;
+        });
+    }
+}
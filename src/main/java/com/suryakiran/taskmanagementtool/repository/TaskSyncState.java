@@ -0,0 +1,5 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+// A user's position in their change feed: the last sequence number taken and the highest one pruned
+public record TaskSyncState(int userId, long changeSeq, long prunedSeq) {
+}
@@ -0,0 +1,38 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import com.suryakiran.taskmanagementtool.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, String>, TaskSyncRepository {
+    // Deletions after a change feed position (idx_task_tombstone_user_change)
+    @Query("SELECT new com.suryakiran.taskmanagementtool.repository.TaskChangeKey(d.taskId, d.changeSeq) FROM TaskTombstone d "
+            + "WHERE d.userId = :userId AND (d.changeSeq > :seq OR (d.changeSeq = :seq AND d.taskId > :id)) "
+            + "ORDER BY d.changeSeq, d.taskId")
+    List<TaskChangeKey> findKeysAfter(@Param("userId") int userId, @Param("seq") long seq, @Param("id") String id, Limit limit);
+
+    // Watermarks at or below this may have lost tombstones
+    @Query(value = "SELECT pruned_seq FROM task_sync WHERE user_id = :userId", nativeQuery = true)
+    Optional<Long> findPrunedSeq(@Param("userId") int userId);
+
+    // Raises pruned_seq of every user with tombstones about to be pruned; run before deleteDeletedBefore, in the
+    // same transaction
+    @Modifying
+    @Query(value = "UPDATE task_sync s SET pruned_seq = GREATEST(pruned_seq, (SELECT MAX(d.change_seq) FROM task_tombstone d "
+            + "WHERE d.user_id = s.user_id AND d.deleted_at < :cutoff)) "
+            + "WHERE EXISTS (SELECT 1 FROM task_tombstone d WHERE d.user_id = s.user_id AND d.deleted_at < :cutoff)",
+            nativeQuery = true)
+    int raisePrunedSeq(@Param("cutoff") long cutoff);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone d WHERE d.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") long cutoff);
+}
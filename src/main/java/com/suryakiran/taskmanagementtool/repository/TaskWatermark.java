@@ -0,0 +1,51 @@
+package com.suryakiran.taskmanagementtool.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// How far a client has read its change feed, exchanged as an opaque token like TaskCursor. prunedSeq is the pruning
+// mark the client's copy already accounts for: a full sync served after pruning starts from that mark, so tombstones
+// pruned up to it are not needed again however far back the full sync's pages begin.
+public record TaskWatermark(long changeSeq, String lastId, long prunedSeq) {
+
+    private static final String VERSION = "w2";
+    // Issued before full syncs carried their pruning mark
+    private static final String VERSION_1 = "w1";
+    private static final String SEPARATOR = "|";
+
+    // Before every change, including tasks that predate the change feed
+    public static final TaskWatermark START = new TaskWatermark(-1, "", 0);
+
+    public static TaskWatermark at(TaskChangeKey key, long prunedSeq) {
+        return new TaskWatermark(key.changeSeq(), key.id(), prunedSeq);
+    }
+
+    public TaskWatermark withPrunedSeq(long prunedSeq) {
+        return new TaskWatermark(changeSeq, lastId, prunedSeq);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, Long.toString(changeSeq), Long.toString(prunedSeq), lastId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskWatermark decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (raw.startsWith(VERSION_1 + SEPARATOR)) {
+                String[] parts = raw.split("\\" + SEPARATOR, 3);
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Malformed watermark");
+                }
+                return new TaskWatermark(Long.parseLong(parts[1]), parts[2], 0);
+            }
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Malformed watermark");
+            }
+            return new TaskWatermark(Long.parseLong(parts[1]), parts[3], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid watermark: " + token, e);
+        }
+    }
+}
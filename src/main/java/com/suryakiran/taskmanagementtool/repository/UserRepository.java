@@ -1,9 +1,23 @@
 package com.suryakiran.taskmanagementtool.repository;
 
+import com.suryakiran.taskmanagementtool.dto.UserDTO;
 import com.suryakiran.taskmanagementtool.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    // Only the creator columns; skips the eager roles fetch that loading the entity triggers
+    @Query("SELECT new com.suryakiran.taskmanagementtool.dto.UserDTO(u.id, u.firstName, u.lastName, u.email, u.createdAt) "
+            + "FROM User u WHERE u.id = :id")
+    Optional<UserDTO> findSummaryById(@Param("id") int id);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<Integer> findIdsAfter(@Param("after") int after, Limit limit);
+}
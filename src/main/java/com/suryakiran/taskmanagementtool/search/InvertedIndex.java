@@ -0,0 +1,261 @@
+package com.suryakiran.taskmanagementtool.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Inverted index over task titles and descriptions, partitioned by user so a query only touches the caller's
+// tasks. Each partition maps terms (kept sorted, for prefix lookups) to postings of dense document numbers and
+// term frequencies. Updates append a new document and tombstone the old one; tombstones are compacted away once
+// they outnumber the live documents. Results are ranked with BM25, counting a title occurrence twice.
+public class InvertedIndex {
+
+    static final int TITLE_WEIGHT = 2;
+    static final int MAX_QUERY_TOKENS = 8;
+    // Terms a single query token may expand to by prefix
+    static final int MAX_EXPANSIONS = 64;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    // Prefix-only matches rank below whole-word matches
+    private static final float PREFIX_WEIGHT = 0.5f;
+    private static final int MIN_COMPACTION = 1024;
+
+    private final Map<Integer, Partition> partitions = new ConcurrentHashMap<>();
+
+    // Adds the task, or replaces what was indexed for it before
+    public void put(int userId, String taskId, String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : TextTokenizer.tokenize(title)) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : TextTokenizer.tokenize(description)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        partitions.computeIfAbsent(userId, id -> new Partition()).put(taskId, frequencies);
+    }
+
+    public void remove(int userId, String taskId) {
+        Partition partition = partitions.get(userId);
+        if (partition != null) {
+            partition.remove(taskId);
+        }
+    }
+
+    // IDs of the user's best matching tasks, best first. Every query token must match a term exactly or as a prefix.
+    public List<String> search(int userId, String query, int limit) {
+        Partition partition = partitions.get(userId);
+        List<String> tokens = TextTokenizer.tokenize(query);
+        if (partition == null || tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        return partition.search(tokens.subList(0, Math.min(tokens.size(), MAX_QUERY_TOKENS)), limit);
+    }
+
+    public void clear() {
+        partitions.clear();
+    }
+
+    public long size() {
+        return partitions.values().stream().mapToLong(Partition::size).sum();
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[2];
+        private short[] frequencies = new short[2];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = (short) Math.min(frequency, Short.MAX_VALUE);
+            size++;
+        }
+    }
+
+    private static final class Partition {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TreeMap<String, Postings> terms = new TreeMap<>();
+        private final Map<String, Integer> docByTask = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private String[] taskIds = new String[16];
+        private int[] lengths = new int[16];
+        // Document numbers handed out so far, live or deleted
+        private int docCount;
+        private int live;
+        private long totalLength;
+
+        void put(String taskId, Map<String, Integer> frequencies) {
+            lock.writeLock().lock();
+            try {
+                Integer previous = docByTask.remove(taskId);
+                if (previous != null) {
+                    delete(previous);
+                }
+                if (docCount == taskIds.length) {
+                    taskIds = Arrays.copyOf(taskIds, docCount * 2);
+                    lengths = Arrays.copyOf(lengths, docCount * 2);
+                }
+                int doc = docCount++;
+                int length = 0;
+                for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                    terms.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, entry.getValue());
+                    length += entry.getValue();
+                }
+                taskIds[doc] = taskId;
+                lengths[doc] = length;
+                docByTask.put(taskId, doc);
+                totalLength += length;
+                live++;
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String taskId) {
+            lock.writeLock().lock();
+            try {
+                Integer doc = docByTask.remove(taskId);
+                if (doc != null) {
+                    delete(doc);
+                    compactIfNeeded();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        long size() {
+            lock.readLock().lock();
+            try {
+                return live;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void delete(int doc) {
+            deleted.set(doc);
+            taskIds[doc] = null;
+            totalLength -= lengths[doc];
+            live--;
+        }
+
+        private void compactIfNeeded() {
+            if (docCount - live > Math.max(live, MIN_COMPACTION)) {
+                compact();
+            }
+        }
+
+        // Renumbers the live documents densely; the mapping keeps their order, so postings stay sorted
+        private void compact() {
+            int[] renumbered = new int[docCount];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted.get(doc)) {
+                    renumbered[doc] = -1;
+                    continue;
+                }
+                renumbered[doc] = next;
+                taskIds[next] = taskIds[doc];
+                lengths[next] = lengths[doc];
+                docByTask.put(taskIds[next], next);
+                next++;
+            }
+            Arrays.fill(taskIds, next, docCount, null);
+            for (Iterator<Postings> iterator = terms.values().iterator(); iterator.hasNext(); ) {
+                Postings postings = iterator.next();
+                int kept = 0;
+                for (int i = 0; i < postings.size; i++) {
+                    int doc = renumbered[postings.docs[i]];
+                    if (doc >= 0) {
+                        postings.docs[kept] = doc;
+                        postings.frequencies[kept] = postings.frequencies[i];
+                        kept++;
+                    }
+                }
+                postings.size = kept;
+                if (kept == 0) {
+                    iterator.remove();
+                }
+            }
+            deleted.clear();
+            docCount = next;
+        }
+
+        List<String> search(List<String> tokens, int limit) {
+            lock.readLock().lock();
+            try {
+                if (live == 0) {
+                    return List.of();
+                }
+                float averageLength = (float) totalLength / live;
+                float[] scores = new float[docCount];
+                // Number of leading query tokens each document has matched; a document drops out at its first miss
+                byte[] matched = new byte[docCount];
+                for (int i = 0; i < tokens.size(); i++) {
+                    String token = tokens.get(i);
+                    int expansions = 0;
+                    for (Map.Entry<String, Postings> entry : terms.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                        if (expansions++ == MAX_EXPANSIONS) {
+                            break;
+                        }
+                        Postings postings = entry.getValue();
+                        float weight = idf(postings.size) * (entry.getKey().length() == token.length() ? 1f : PREFIX_WEIGHT);
+                        for (int p = 0; p < postings.size; p++) {
+                            int doc = postings.docs[p];
+                            if (matched[doc] < i || deleted.get(doc)) {
+                                continue;
+                            }
+                            matched[doc] = (byte) (i + 1);
+                            float frequency = postings.frequencies[p];
+                            scores[doc] += weight * frequency * (K1 + 1)
+                                    / (frequency + K1 * (1 - B + B * lengths[doc] / averageLength));
+                        }
+                    }
+                }
+                return top(scores, matched, tokens.size(), limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private float idf(int documentFrequency) {
+            return (float) Math.log(1 + (live - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        // Min-heap of the best limit documents; ties go to the lower task ID so results are stable
+        private List<String> top(float[] scores, byte[] matched, int required, int limit) {
+            PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, (a, b) -> {
+                int byScore = Float.compare(scores[a], scores[b]);
+                return byScore != 0 ? byScore : taskIds[b].compareTo(taskIds[a]);
+            });
+            for (int doc = 0; doc < docCount; doc++) {
+                if (matched[doc] == required) {
+                    best.offer(doc);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+            List<String> result = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                result.add(taskIds[best.poll()]);
+            }
+            Collections.reverse(result);
+            return result;
+        }
+    }
+}
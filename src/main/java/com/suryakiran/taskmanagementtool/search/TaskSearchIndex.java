@@ -0,0 +1,190 @@
+package com.suryakiran.taskmanagementtool.search;
+
+import com.suryakiran.taskmanagementtool.dto.TaskChanges;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import com.suryakiran.taskmanagementtool.repository.TaskSyncState;
+import com.suryakiran.taskmanagementtool.repository.TaskWatermark;
+import com.suryakiran.taskmanagementtool.service.TaskSyncService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Keeps the in-memory InvertedIndex and TitleTrie in step with the task table: rebuilt from the database before
+// the node serves requests, then updated from TaskChangeEvents once their transaction has committed. Writes made
+// on other nodes are caught up from the change feed (TaskSyncService): every catch-up-interval the node reads the
+// users whose change sequence moved since its last look, and applies their feed from where it left off. Every
+// update is keyed by task and replaces what was indexed for it, so a change seen both ways is applied once.
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+    private static final int CATCH_UP_PAGE_SIZE = 1000;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final TitleTrie titles = new TitleTrie();
+    // The title indexed for each task, by user, so an update can take the old title out of the trie
+    private final Map<Integer, Map<String, String>> indexedTitles = new ConcurrentHashMap<>();
+    private final TaskRepository taskRepository;
+    private final TaskSyncService taskSyncService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration catchUpOverlap;
+
+    // Each user's sequence number and feed watermark as far as this node has applied; only changed under catchUpLock
+    private final Map<Integer, Long> appliedSeqs = new HashMap<>();
+    private final Map<Integer, String> watermarks = new HashMap<>();
+    private long lastCatchUpMillis;
+    private final ReentrantLock catchUpLock = new ReentrantLock();
+
+    public TaskSearchIndex(TaskRepository taskRepository, TaskSyncService taskSyncService,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${task.search.catch-up-overlap:PT1M}") Duration catchUpOverlap) {
+        this.taskRepository = taskRepository;
+        this.taskSyncService = taskSyncService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        catchUpLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            index.clear();
+            titles.clear();
+            indexedTitles.clear();
+            appliedSeqs.clear();
+            watermarks.clear();
+            lastCatchUpMillis = started;
+            transactionTemplate.executeWithoutResult(status -> {
+                // Read first, so changes made while the tasks stream in are caught up again rather than missed
+                for (TaskSyncState state : taskSyncService.getStatesChangedSince(Long.MIN_VALUE)) {
+                    appliedSeqs.put(state.userId(), state.changeSeq());
+                    watermarks.put(state.userId(), new TaskWatermark(state.changeSeq(), "", state.prunedSeq()).encode());
+                }
+                try (Stream<TaskDTO> tasks = taskRepository.streamAllDtos()) {
+                    tasks.filter(task -> task.getCreator() != null).forEach(task ->
+                            put(task.getCreator().getId(), task.getId(), task.getTitle(), task.getDescription()));
+                }
+            });
+            logger.info("Indexed {} tasks and {} distinct titles for search in {} ms", index.size(), titles.size(),
+                    System.currentTimeMillis() - started);
+        } finally {
+            catchUpLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        if (event.current() == null) {
+            remove(event.userId(), event.taskId());
+        } else {
+            put(event.userId(), event.taskId(), event.current().title(), event.current().description());
+        }
+    }
+
+    // Sequence rows are stamped just before their transaction commits, by the writer's clock, so every look goes
+    // back catch-up-overlap before the previous one. This node's own writes come back too; applying them again
+    // changes nothing.
+    @Scheduled(fixedDelayString = "${task.search.catch-up-interval:PT5S}")
+    public void catchUp() {
+        catchUpLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            List<TaskSyncState> states = taskSyncService.getStatesChangedSince(lastCatchUpMillis - catchUpOverlap.toMillis());
+            lastCatchUpMillis = started;
+            for (TaskSyncState state : states) {
+                if (state.changeSeq() > appliedSeqs.getOrDefault(state.userId(), 0L)) {
+                    catchUp(state.userId());
+                    appliedSeqs.merge(state.userId(), state.changeSeq(), Math::max);
+                }
+            }
+        } finally {
+            catchUpLock.unlock();
+        }
+    }
+
+    public List<String> search(int userId, String query, int limit) {
+        return index.search(userId, query, limit);
+    }
+
+    public List<String> suggestTitles(int userId, String prefix, int limit) {
+        return titles.suggest(userId, prefix, limit);
+    }
+
+    // Users first seen here have no watermark; their tasks from before the change feed are read once more
+    private void catchUp(int userId) {
+        String watermark = watermarks.getOrDefault(userId, new TaskWatermark(0, "", 0).encode());
+        // A full sync when tombstones this node still needed were pruned; whatever it does not list is gone
+        Set<String> listed = null;
+        TaskChanges changes;
+        do {
+            changes = taskSyncService.getChanges(userId, watermark, CATCH_UP_PAGE_SIZE);
+            if (changes.isReset()) {
+                listed = new HashSet<>();
+            }
+            for (TaskDTO task : changes.getChanged()) {
+                put(userId, task.getId(), task.getTitle(), task.getDescription());
+                if (listed != null) {
+                    listed.add(task.getId());
+                }
+            }
+            changes.getDeleted().forEach(taskId -> remove(userId, taskId));
+            watermark = changes.getWatermark();
+        } while (changes.isHasMore());
+        if (listed != null) {
+            Set<String> unlisted = new HashSet<>(indexedTitles.getOrDefault(userId, Map.of()).keySet());
+            unlisted.removeAll(listed);
+            unlisted.forEach(taskId -> remove(userId, taskId));
+        }
+        watermarks.put(userId, watermark);
+    }
+
+    // Under the user's entry, so the indexed title and the trie change together
+    private void put(int userId, String taskId, String title, String description) {
+        indexedTitles.compute(userId, (id, tasks) -> {
+            Map<String, String> updated = tasks != null ? tasks : new HashMap<>();
+            String previousTitle = updated.put(taskId, title);
+            index.put(userId, taskId, title, description);
+            if (!Objects.equals(previousTitle, title)) {
+                if (previousTitle != null) {
+                    titles.remove(userId, previousTitle);
+                }
+                if (title != null) {
+                    titles.add(userId, title);
+                }
+            }
+            return updated;
+        });
+    }
+
+    private void remove(int userId, String taskId) {
+        indexedTitles.computeIfPresent(userId, (id, tasks) -> {
+            String previousTitle = tasks.remove(taskId);
+            index.remove(userId, taskId);
+            if (previousTitle != null) {
+                titles.remove(userId, previousTitle);
+            }
+            return tasks.isEmpty() ? null : tasks;
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.suryakiran.taskmanagementtool.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Splits text into lower-case runs of letters and digits. Used for both indexing and queries, so they agree.
+public final class TextTokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = text.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH));
+                tokens.add(token.toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,354 @@
+package com.suryakiran.taskmanagementtool.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Title completions per user from a radix tree over the user's distinct titles (lower-cased, whitespace
+// collapsed). Edges carry whole substrings, so there are at most two nodes per distinct title. Every node keeps
+// the TOP_K titles below it, most used first, which makes a lookup a walk down the prefix plus a copy.
+// Writes keep those lists current along the path they touch.
+public class TitleTrie {
+
+    public static final int TOP_K = 10;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Title[] NO_TITLES = new Title[0];
+    // More tasks with the title first, then alphabetical
+    private static final Comparator<Title> RANK = Comparator.comparingInt((Title title) -> -title.count)
+            .thenComparing(title -> title.key);
+
+    private final Map<Integer, Partition> partitions = new ConcurrentHashMap<>();
+
+    public void add(int userId, String title) {
+        String key = normalize(title, false);
+        if (!key.isEmpty()) {
+            partitions.computeIfAbsent(userId, id -> new Partition()).add(key, title.strip());
+        }
+    }
+
+    public void remove(int userId, String title) {
+        Partition partition = partitions.get(userId);
+        String key = normalize(title, false);
+        if (partition != null && !key.isEmpty()) {
+            partition.remove(key);
+        }
+    }
+
+    // Up to limit titles starting with prefix, most used first
+    public List<String> suggest(int userId, String prefix, int limit) {
+        Partition partition = partitions.get(userId);
+        if (partition == null || limit < 1) {
+            return List.of();
+        }
+        return partition.suggest(normalize(prefix, true), Math.min(limit, TOP_K));
+    }
+
+    public void clear() {
+        partitions.clear();
+    }
+
+    // Distinct titles across all users
+    public long size() {
+        return partitions.values().stream().mapToLong(Partition::size).sum();
+    }
+
+    // A trailing space is kept for prefixes, so "fix " only completes titles with more words after "fix"
+    static String normalize(String text, boolean prefix) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = normalized.length() > 0;
+            } else {
+                if (space) {
+                    normalized.append(' ');
+                    space = false;
+                }
+                normalized.append(c);
+            }
+        }
+        if (space && prefix) {
+            normalized.append(' ');
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Title {
+        private final String key;
+        // Spelling of the most recent write, shown to the user
+        private String display;
+        private int count;
+
+        private Title(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Node {
+        private String edge;
+        // Sorted by the first character of their edge
+        private Node[] children = NO_CHILDREN;
+        // The title whose key ends exactly here, if any
+        private Title title;
+        private Title[] top = NO_TITLES;
+
+        private Node(String edge) {
+            this.edge = edge;
+        }
+
+        private int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].edge.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void addChild(Node child) {
+            int at = -(childIndex(child.edge.charAt(0)) + 1);
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, at);
+            grown[at] = child;
+            System.arraycopy(children, at, grown, at + 1, children.length - at);
+            children = grown;
+        }
+
+        private void removeChild(Node child) {
+            int at = childIndex(child.edge.charAt(0));
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, at);
+            System.arraycopy(children, at + 1, shrunk, at, children.length - at - 1);
+            children = shrunk;
+        }
+    }
+
+    private static final class Partition {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Node root = new Node("");
+        private final Map<String, Title> titles = new HashMap<>();
+
+        void add(String key, String display) {
+            lock.writeLock().lock();
+            try {
+                Title title = titles.get(key);
+                List<Node> path;
+                if (title == null) {
+                    title = new Title(key);
+                    titles.put(key, title);
+                    path = insert(key, title);
+                } else {
+                    path = path(key);
+                }
+                title.count++;
+                title.display = display;
+                for (Node node : path) {
+                    promote(node, title);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String key) {
+            lock.writeLock().lock();
+            try {
+                Title title = titles.get(key);
+                if (title == null) {
+                    return;
+                }
+                List<Node> path = path(key);
+                if (--title.count == 0) {
+                    titles.remove(key);
+                    path.get(path.size() - 1).title = null;
+                }
+                // A title in an ancestor's list is also in every list below it, so stop at the first node without it
+                for (int depth = path.size() - 1; depth >= 0; depth--) {
+                    Node node = path.get(depth);
+                    if (!Arrays.asList(node.top).contains(title)) {
+                        break;
+                    }
+                    node.top = recompute(node);
+                }
+                if (title.count == 0) {
+                    prune(path);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<String> suggest(String prefix, int limit) {
+            lock.readLock().lock();
+            try {
+                Node node = root;
+                int position = 0;
+                while (position < prefix.length()) {
+                    int index = node.childIndex(prefix.charAt(position));
+                    if (index < 0) {
+                        return List.of();
+                    }
+                    Node child = node.children[index];
+                    int common = commonPrefix(child.edge, prefix, position);
+                    if (position + common == prefix.length()) {
+                        // The prefix ends on or inside this edge; everything below the edge completes it
+                        node = child;
+                        break;
+                    }
+                    if (common < child.edge.length()) {
+                        return List.of();
+                    }
+                    position += common;
+                    node = child;
+                }
+                List<String> suggestions = new ArrayList<>(Math.min(limit, node.top.length));
+                for (int i = 0; i < node.top.length && i < limit; i++) {
+                    suggestions.add(node.top[i].display);
+                }
+                return suggestions;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long size() {
+            lock.readLock().lock();
+            try {
+                return titles.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Adds the nodes for a new key, splitting an edge where the key leaves it; returns the path from the root
+        private List<Node> insert(String key, Title title) {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            int position = 0;
+            while (position < key.length()) {
+                int index = node.childIndex(key.charAt(position));
+                if (index < 0) {
+                    Node leaf = new Node(key.substring(position));
+                    node.addChild(leaf);
+                    node = leaf;
+                    path.add(node);
+                    break;
+                }
+                Node child = node.children[index];
+                int common = commonPrefix(child.edge, key, position);
+                if (common < child.edge.length()) {
+                    Node split = new Node(child.edge.substring(0, common));
+                    child.edge = child.edge.substring(common);
+                    split.children = new Node[]{child};
+                    split.top = child.top.clone();
+                    node.children[index] = split;
+                    child = split;
+                }
+                position += common;
+                node = child;
+                path.add(node);
+            }
+            node.title = title;
+            return path;
+        }
+
+        private List<Node> path(String key) {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            for (int position = 0; position < key.length(); position += node.edge.length()) {
+                node = node.children[node.childIndex(key.charAt(position))];
+                path.add(node);
+            }
+            return path;
+        }
+
+        // Drops nodes left without a title or children, and folds a node with a single child into that child
+        private void prune(List<Node> path) {
+            for (int depth = path.size() - 1; depth >= 1; depth--) {
+                Node node = path.get(depth);
+                Node parent = path.get(depth - 1);
+                if (node.title != null) {
+                    return;
+                }
+                if (node.children.length == 0) {
+                    parent.removeChild(node);
+                    continue;
+                }
+                if (node.children.length == 1) {
+                    Node child = node.children[0];
+                    child.edge = node.edge + child.edge;
+                    parent.children[parent.childIndex(child.edge.charAt(0))] = child;
+                }
+                return;
+            }
+        }
+
+        // Moves a title whose count went up into, or up within, a node's list
+        private static void promote(Node node, Title title) {
+            Title[] top = node.top;
+            int at = Arrays.asList(top).indexOf(title);
+            if (at < 0) {
+                if (top.length == TOP_K) {
+                    if (RANK.compare(title, top[TOP_K - 1]) >= 0) {
+                        return;
+                    }
+                    at = TOP_K - 1;
+                } else {
+                    top = Arrays.copyOf(top, top.length + 1);
+                    at = top.length - 1;
+                }
+                top[at] = title;
+            }
+            while (at > 0 && RANK.compare(top[at], top[at - 1]) < 0) {
+                Title swap = top[at - 1];
+                top[at - 1] = top[at];
+                top[at] = swap;
+                at--;
+            }
+            node.top = top;
+        }
+
+        // A node's list from its own title and its children's lists, after a title lost count or went away
+        private static Title[] recompute(Node node) {
+            List<Title> candidates = new ArrayList<>();
+            if (node.title != null) {
+                candidates.add(node.title);
+            }
+            for (Node child : node.children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(RANK);
+            return candidates.subList(0, Math.min(candidates.size(), TOP_K)).toArray(NO_TITLES);
+        }
+
+        private static int commonPrefix(String edge, String key, int offset) {
+            int length = Math.min(edge.length(), key.length() - offset);
+            int i = 0;
+            while (i < length && edge.charAt(i) == key.charAt(offset + i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.suryakiran.taskmanagementtool.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// Principal for authenticated requests; carries the database id so services can query by user_id directly
+public class AuthenticatedUser extends User {
+
+    private final int id;
+
+    public AuthenticatedUser(int id, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof AuthenticatedUser other && id == other.id && super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,187 @@
+package com.suryakiran.taskmanagementtool.security;
+
+import com.suryakiran.taskmanagementtool.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// BCrypt on a pool of its own, sized to the cores, so a burst of logins cannot spend every request thread on
+// hashing. Callers wait for their hash; once the pool's queue is full they are turned away at once with a 503 and
+// Retry-After rather than queueing behind the burst. Unless security.password.cost is set, the cost is the highest
+// within [min-cost, max-cost] whose hash fits the target latency on this machine, timed at startup. Stored hashes
+// keep the cost they were made with, so a new cost applies to new and changed passwords only.
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+    // Lower costs finish too quickly to time reliably
+    private static final int CALIBRATION_COST = 8;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private enum Operation {
+        ENCODE, MATCHES
+    }
+
+    private final BCryptPasswordEncoder bcrypt;
+    private final int cost;
+    private final ThreadPoolExecutor hashers;
+    private final Duration retryAfter;
+    private final AtomicLong rejected = new AtomicLong();
+    // Registered by bindTo; hashes before that are not timed
+    private final Map<Operation, Timer> queuedTimers = new ConcurrentHashMap<>();
+    private final Map<Operation, Timer> hashTimers = new ConcurrentHashMap<>();
+
+    public BoundedPasswordEncoder(@Value("${security.password.cost:0}") int cost,
+                                  @Value("${security.password.target-latency:PT0.1S}") Duration targetLatency,
+                                  @Value("${security.password.min-cost:10}") int minCost,
+                                  @Value("${security.password.max-cost:16}") int maxCost,
+                                  @Value("${security.password.threads:0}") int threads,
+                                  @Value("${security.password.queue-capacity:64}") int queueCapacity,
+                                  @Value("${security.password.retry-after:PT1S}") Duration retryAfter) {
+        this.cost = cost > 0 ? cost : calibrate(targetLatency, minCost, maxCost);
+        this.bcrypt = new BCryptPasswordEncoder(this.cost);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), runnable -> {
+            Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retryAfter = retryAfter;
+        logger.info("Hashing passwords with BCrypt cost {}{} on {} threads", this.cost,
+                cost > 0 ? "" : " (calibrated for " + targetLatency.toMillis() + " ms)", poolSize);
+    }
+
+    // The highest cost in [minCost, maxCost] whose estimated hash time is within target; each step doubles the work
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            new BCryptPasswordEncoder(4).encode("calibration");
+        }
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_COST);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long started = System.nanoTime();
+            probe.encode("calibration");
+            fastest = Math.min(fastest, System.nanoTime() - started);
+        }
+        int chosen = minCost;
+        while (chosen < maxCost && fastest * Math.pow(2, chosen + 1 - CALIBRATION_COST) <= target.toNanos()) {
+            chosen++;
+        }
+        return chosen;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(Operation.ENCODE, () -> bcrypt.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(Operation.MATCHES, () -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return bcrypt.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashers.shutdownNow();
+    }
+
+    // Published as password.hash.queued and password.hash (tagged by operation), password.hash.rejected,
+    // password.hash.queue and password.hash.cost
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (Operation operation : Operation.values()) {
+            String tag = operation.name().toLowerCase();
+            queuedTimers.put(operation, Timer.builder("password.hash.queued")
+                    .description("Time spent waiting for a hashing thread")
+                    .tag("operation", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry));
+            hashTimers.put(operation, Timer.builder("password.hash")
+                    .description("Time spent hashing")
+                    .tag("operation", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry));
+        }
+        FunctionCounter.builder("password.hash.rejected", rejected, AtomicLong::get)
+                .description("Password hashes turned away because the queue was full")
+                .register(registry);
+        Gauge.builder("password.hash.queue", hashers, executor -> executor.getQueue().size())
+                .description("Password hashes waiting for a thread")
+                .register(registry);
+        Gauge.builder("password.hash.cost", this, BoundedPasswordEncoder::getCost)
+                .description("BCrypt cost of new hashes")
+                .register(registry);
+    }
+
+    private <T> T hash(Operation operation, Supplier<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> result;
+        try {
+            result = hashers.submit(() -> {
+                long started = System.nanoTime();
+                record(queuedTimers, operation, started - submitted);
+                try {
+                    return work.get();
+                } finally {
+                    record(hashTimers, operation, System.nanoTime() - started);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new ServiceUnavailableException("Password hashing is at capacity, try again shortly", retryAfter);
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static void record(Map<Operation, Timer> timers, Operation operation, long nanos) {
+        Timer timer = timers.get(operation);
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.suryakiran.taskmanagementtool.service;
+
+import com.suryakiran.taskmanagementtool.model.IdSequence;
+import com.suryakiran.taskmanagementtool.repository.IdSequenceRepository;
+import com.suryakiran.taskmanagementtool.util.IdBlockSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class IdBlockLeaseService implements IdBlockSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdBlockLeaseService.class);
+    static final String TASK_SEQUENCE = "task";
+
+    private final IdSequenceRepository idSequenceRepository;
+
+    public IdBlockLeaseService(IdSequenceRepository idSequenceRepository) {
+        this.idSequenceRepository = idSequenceRepository;
+    }
+
+    // Leases [start, start + blockSize) from the task sequence row in its own transaction.
+    // The row lock serializes nodes that lease at the same time; the row is seeded by V10, since two nodes
+    // inserting it on their first lease would deadlock or collide.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(int blockSize) {
+        IdSequence sequence = idSequenceRepository.findByNameForUpdate(TASK_SEQUENCE)
+                .orElseThrow(() -> new IllegalStateException("Missing id_sequence row '" + TASK_SEQUENCE + "'"));
+        long start = sequence.getNextValue();
+        sequence.setNextValue(start + blockSize);
+        idSequenceRepository.save(sequence);
+        logger.info("Leased task IDs {} to {}", start, start + blockSize - 1);
+        return start;
+    }
+}
@@ -0,0 +1,341 @@
+package com.suryakiran.taskmanagementtool.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+// Wire formats for task export and import: one JSON object per line, or CSV with a header row (RFC 4180 quoting).
+// Both carry the same columns, with status and priority as their display names and the due date as yyyy-MM-dd.
+// Readers parse one record at a time, so an import never holds more than the current record in memory. A record
+// longer than the reader's limit (an unterminated quote, say, or an upload without line breaks) is reported as an
+// error and skipped to the end of its line.
+public enum TaskExportFormat {
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public RowWriter writer(Writer out) throws IOException {
+            JsonGenerator generator = JSON_FACTORY.createGenerator(out);
+            return new RowWriter() {
+                @Override
+                public void write(TaskDTO task) throws IOException {
+                    generator.writeStartObject();
+                    generator.writeStringField("id", task.getId());
+                    generator.writeStringField("title", task.getTitle());
+                    generator.writeStringField("description", task.getDescription());
+                    generator.writeStringField("status", task.getStatus() == null ? null : task.getStatus().getDisplayName());
+                    generator.writeStringField("priority", task.getPriority() == null ? null : task.getPriority().getDisplayName());
+                    generator.writeStringField("dueDate", task.getDueDate() == null ? null : task.getDueDate().toString());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    generator.flush();
+                }
+            };
+        }
+
+        @Override
+        public RowReader reader(BufferedReader in, int maxRecordLength) {
+            return new RowReader() {
+                private long number;
+
+                @Override
+                public Row next() throws IOException {
+                    String line;
+                    do {
+                        try {
+                            line = readLine(in, maxRecordLength);
+                        } catch (IllegalArgumentException e) {
+                            return new Row(++number, null, List.of(e.getMessage()));
+                        }
+                        if (line == null) {
+                            return null;
+                        }
+                    } while (line.isBlank());
+                    number++;
+                    JsonNode node;
+                    try {
+                        node = OBJECT_MAPPER.readTree(line);
+                    } catch (JsonProcessingException e) {
+                        return new Row(number, null, List.of("Malformed JSON: " + e.getOriginalMessage()));
+                    }
+                    if (!node.isObject()) {
+                        return new Row(number, null, List.of("Expected a JSON object"));
+                    }
+                    return toRow(number, column -> node.hasNonNull(column) ? node.get(column).asText() : null);
+                }
+            };
+        }
+    },
+    CSV("text/csv", "csv") {
+        @Override
+        public RowWriter writer(Writer out) throws IOException {
+            out.write(String.join(",", COLUMNS));
+            out.write("\r\n");
+            return new RowWriter() {
+                @Override
+                public void write(TaskDTO task) throws IOException {
+                    writeField(out, task.getId());
+                    out.write(',');
+                    writeField(out, task.getTitle());
+                    out.write(',');
+                    writeField(out, task.getDescription());
+                    out.write(',');
+                    writeField(out, task.getStatus() == null ? null : task.getStatus().getDisplayName());
+                    out.write(',');
+                    writeField(out, task.getPriority() == null ? null : task.getPriority().getDisplayName());
+                    out.write(',');
+                    writeField(out, task.getDueDate() == null ? null : task.getDueDate().toString());
+                    out.write("\r\n");
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    out.flush();
+                }
+            };
+        }
+
+        // Columns are matched to the header by name, so they may come in any order and unknown ones are ignored
+        @Override
+        public RowReader reader(BufferedReader in, int maxRecordLength) throws IOException {
+            List<String> header = readRecord(in, maxRecordLength);
+            Map<String, Integer> positions = new HashMap<>();
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    positions.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+            }
+            return new RowReader() {
+                private long number;
+
+                @Override
+                public Row next() throws IOException {
+                    List<String> fields;
+                    do {
+                        try {
+                            fields = readRecord(in, maxRecordLength);
+                        } catch (IllegalArgumentException e) {
+                            return new Row(++number, null, List.of(e.getMessage()));
+                        }
+                        if (fields == null) {
+                            return null;
+                        }
+                    } while (fields.size() == 1 && fields.get(0).isEmpty());
+                    number++;
+                    List<String> record = fields;
+                    return toRow(number, column -> {
+                        Integer position = positions.get(column.toLowerCase(Locale.ROOT));
+                        return position == null || position >= record.size() ? null : record.get(position);
+                    });
+                }
+            };
+        }
+    };
+
+    public static final List<String> COLUMNS = List.of("id", "title", "description", "status", "priority", "dueDate");
+
+    // Shared and thread-safe. AUTO_CLOSE_TARGET is off so the response stream stays owned by the container,
+    // and rows are separated by the newline written after each one rather than Jackson's default space.
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .setRootValueSeparator(null);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String mediaType;
+    private final String extension;
+
+    TaskExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public abstract RowWriter writer(Writer out) throws IOException;
+
+    // maxRecordLength is in characters
+    public abstract RowReader reader(BufferedReader in, int maxRecordLength) throws IOException;
+
+    public static TaskExportFormat fromValue(String value) {
+        for (TaskExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + value);
+    }
+
+    // Matches a Content-Type such as "text/csv; charset=UTF-8"
+    public static TaskExportFormat fromMediaType(String contentType) {
+        if (contentType != null) {
+            for (TaskExportFormat format : values()) {
+                if (contentType.toLowerCase(Locale.ROOT).startsWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content type: " + contentType);
+    }
+
+    public interface RowWriter {
+        void write(TaskDTO task) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    public interface RowReader {
+        // The next record, or null at the end of the input
+        Row next() throws IOException;
+    }
+
+    // A parsed record and its 1-based position in the input. Records that could not be parsed carry errors
+    // and no task; field-level problems (an unknown status, say) are reported alongside the partial task.
+    public record Row(long number, TaskDTO task, List<String> errors) {
+    }
+
+    private static Row toRow(long number, Function<String, String> column) {
+        List<String> errors = new ArrayList<>();
+        TaskDTO task = new TaskDTO();
+        task.setTitle(emptyToNull(column.apply("title")));
+        task.setDescription(emptyToNull(column.apply("description")));
+        String status = emptyToNull(column.apply("status"));
+        String priority = emptyToNull(column.apply("priority"));
+        String dueDate = emptyToNull(column.apply("dueDate"));
+        try {
+            task.setStatus(status == null ? null : Status.fromValue(status));
+        } catch (IllegalArgumentException e) {
+            errors.add("Invalid status: " + status);
+        }
+        try {
+            task.setPriority(priority == null ? null : Priority.fromValue(priority));
+        } catch (IllegalArgumentException e) {
+            errors.add("Invalid priority: " + priority);
+        }
+        try {
+            task.setDueDate(dueDate == null ? null : Date.valueOf(dueDate));
+        } catch (IllegalArgumentException e) {
+            errors.add("Invalid due date: " + dueDate);
+        }
+        return new Row(number, task, errors);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    // One line without its terminator, or null at the end of the input
+    private static String readLine(BufferedReader in, int maxLength) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (c == '\r') {
+                continue;
+            }
+            if (line.length() == maxLength) {
+                skipLine(in);
+                throw tooLong(maxLength);
+            }
+            line.append((char) c);
+        }
+        return c == -1 && line.isEmpty() ? null : line.toString();
+    }
+
+    // One CSV record, which may span several lines inside quotes; null at the end of the input
+    private static List<String> readRecord(BufferedReader in, int maxLength) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int length = 0;
+        int c;
+        while ((c = in.read()) != -1) {
+            read = true;
+            if ((quoted || c != '\n') && ++length > maxLength) {
+                // Past the limit: give up on the record, even inside quotes, and resume at the next line
+                if (c != '\n') {
+                    skipLine(in);
+                }
+                throw tooLong(maxLength);
+            }
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                in.mark(1);
+                if (in.read() == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    in.reset();
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void skipLine(BufferedReader in) throws IOException {
+        int c;
+        do {
+            c = in.read();
+        } while (c != -1 && c != '\n');
+    }
+
+    private static IllegalArgumentException tooLong(int maxLength) {
+        return new IllegalArgumentException("Record longer than " + maxLength + " characters");
+    }
+
+    // Quotes a field only when it contains a separator, quote or line break
+    private static void writeField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
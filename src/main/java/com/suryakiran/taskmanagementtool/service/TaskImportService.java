@@ -0,0 +1,187 @@
+package com.suryakiran.taskmanagementtool.service;
+
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.TaskImportResult;
+import com.suryakiran.taskmanagementtool.exception.AuthenticationRequiredException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Imports tasks from a CSV or NDJSON upload without buffering it. The request thread parses records into
+// fixed-size batches and hands them over a small bounded queue to a writer thread, which commits each batch in
+// its own transaction through TaskService.createTasks. Parsing and inserting overlap, memory is bounded by the
+// queue and the record length limit, and a bad record only affects itself: invalid rows are reported, and a batch
+// the database rejects is retried one row at a time.
+@Service
+public class TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+    private static final String AUTHENTICATION_REQUIRED = "Authentication required";
+    private static final int QUEUE_CAPACITY = 4;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int PROGRESS_INTERVAL = 20;
+    private static final List<Pending> END = List.of();
+
+    private final TaskService taskService;
+    private final int batchSize;
+    private final int maxRecordLength;
+    private final ExecutorService writers;
+
+    private record Pending(long number, TaskDTO task) {
+    }
+
+    public TaskImportService(TaskService taskService,
+                             @Value("${task.import.batch-size:500}") int batchSize,
+                             @Value("${task.import.max-concurrent:4}") int maxConcurrent,
+                             @Value("${task.import.max-record-length:65536}") int maxRecordLength) {
+        this.taskService = taskService;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxRecordLength = maxRecordLength;
+        AtomicInteger threads = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(maxConcurrent, runnable -> {
+            Thread thread = new Thread(runnable, "task-import-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public TaskImportResult importTasks(TaskExportFormat format, InputStream in, Authentication authentication) throws IOException {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        logger.info("Importing {} tasks for user: {}", format, authentication.getName());
+        Progress progress = new Progress();
+        BlockingQueue<List<Pending>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        Future<?> writer = writers.submit(() -> write(queue, progress, authentication));
+        boolean completed = false;
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            TaskExportFormat.RowReader rows = format.reader(reader, maxRecordLength);
+            List<Pending> batch = new ArrayList<>(batchSize);
+            for (TaskExportFormat.Row row = rows.next(); row != null; row = rows.next()) {
+                progress.records++;
+                if (!row.errors().isEmpty()) {
+                    progress.reject(row.number(), row.errors());
+                    continue;
+                }
+                batch.add(new Pending(row.number(), row.task()));
+                if (batch.size() == batchSize) {
+                    handOver(queue, batch, writer);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                handOver(queue, batch, writer);
+            }
+            handOver(queue, END, writer);
+            writer.get();
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Import failed after " + progress.imported + " tasks", e.getCause());
+        } finally {
+            if (!completed) {
+                writer.cancel(true);
+            }
+        }
+        logger.info("Imported {} of {} records for user: {}", progress.imported, progress.records, authentication.getName());
+        return progress.toResult();
+    }
+
+    // Blocks while the writer is behind, which is what bounds memory; gives up if the writer has stopped
+    private static void handOver(BlockingQueue<List<Pending>> queue, List<Pending> batch, Future<?> writer)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new IllegalStateException("Import writer stopped");
+            }
+        }
+    }
+
+    private Void write(BlockingQueue<List<Pending>> queue, Progress progress, Authentication authentication)
+            throws InterruptedException {
+        long batches = 0;
+        for (List<Pending> batch = queue.take(); batch != END; batch = queue.take()) {
+            List<TaskDTO> tasks = batch.stream().map(Pending::task).toList();
+            try {
+                tally(batch, taskService.createTasks(tasks, authentication), progress);
+            } catch (RuntimeException e) {
+                // Something in the batch broke the transaction; find the offending rows by writing them one at a time
+                logger.warn("Import batch failed, retrying its {} rows individually: {}", batch.size(), e.getMessage());
+                for (Pending pending : batch) {
+                    try {
+                        tally(List.of(pending), taskService.createTasks(List.of(pending.task()), authentication), progress);
+                    } catch (RuntimeException rowFailure) {
+                        logger.warn("Import record {} failed: {}", pending.number(), rowFailure.getMessage());
+                        progress.reject(pending.number(), List.of("Could not be saved"));
+                    }
+                }
+            }
+            if (++batches % PROGRESS_INTERVAL == 0) {
+                logger.info("Import progress for user {}: {} tasks imported, {} rejected",
+                        authentication.getName(), progress.imported, progress.failed);
+            }
+        }
+        return null;
+    }
+
+    private static void tally(List<Pending> batch, List<TaskBatchResult> results, Progress progress) {
+        for (TaskBatchResult result : results) {
+            if (result.getStatus() == TaskBatchResult.Status.CREATED) {
+                progress.imported++;
+            } else {
+                progress.reject(batch.get(result.getIndex()).number(), result.getErrors());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+    }
+
+    // Updated by both the parsing and the writing thread
+    private static final class Progress {
+        private volatile long records;
+        private volatile long imported;
+        private volatile long failed;
+        private final List<TaskImportResult.RowError> errors = new ArrayList<>();
+
+        synchronized void reject(long number, List<String> messages) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TaskImportResult.RowError(number, messages));
+            }
+        }
+
+        synchronized TaskImportResult toResult() {
+            List<TaskImportResult.RowError> sorted = new ArrayList<>(errors);
+            sorted.sort((a, b) -> Long.compare(a.getRecord(), b.getRecord()));
+            return new TaskImportResult(records, imported, failed, sorted, failed > errors.size());
+        }
+    }
+}
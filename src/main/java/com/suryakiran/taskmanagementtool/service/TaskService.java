@@ -1,12 +1,20 @@
 package com.suryakiran.taskmanagementtool.service;
 
+import com.suryakiran.taskmanagementtool.dto.CursorPage;
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
+import com.suryakiran.taskmanagementtool.dto.TaskChanges;
 import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.TaskStats;
 import com.suryakiran.taskmanagementtool.model.Status;
 import com.suryakiran.taskmanagementtool.model.Priority;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Optional;
 
 public interface TaskService {
@@ -16,8 +24,25 @@ public interface TaskService {
     Optional<TaskDTO> getTaskById(String id);
     Optional<TaskDTO> getTaskById(String id, Authentication authentication);
     TaskDTO updateTask(String id, TaskDTO taskDTO, Authentication authentication);
+    TaskDTO updateTask(String id, TaskDTO taskDTO, Long expectedVersion, Authentication authentication);
     void deleteTask(String id, Authentication authentication);
+    void deleteTask(String id, Long expectedVersion, Authentication authentication);
+    Optional<Long> getTaskVersion(String id, Authentication authentication);
+    String getTasksTag(Status status, Priority priority, Pageable pageable, Authentication authentication);
+    String getTasksPageTag(String cursor, int size, String sortBy, String direction,
+                           Status status, Priority priority, boolean includeCount, Authentication authentication);
     Page<TaskDTO> getTasks(Status status, Priority priority, Pageable pageable);
     Page<TaskDTO> getTasks(Status status, Priority priority, Pageable pageable, Authentication authentication);
+    CursorPage<TaskDTO> getTasksPage(String cursor, int size, String sortBy, String direction,
+                                     Status status, Priority priority, boolean includeCount, Authentication authentication);
     boolean isTaskOwner(String taskId, int userId);
+    List<TaskBatchResult> createTasks(List<TaskDTO> taskDTOs, Authentication authentication);
+    List<TaskBatchResult> updateTasks(List<TaskDTO> taskDTOs, Authentication authentication);
+    List<TaskBatchResult> deleteTasks(List<String> ids, Authentication authentication);
+    List<TaskDTO> searchTasks(String query, int limit, Authentication authentication);
+    TaskStats getTaskStats(Authentication authentication);
+    List<String> suggestTitles(String prefix, int limit, Authentication authentication);
+    SseEmitter streamTasks(Authentication authentication);
+    TaskChanges getTaskChanges(String since, int limit, Authentication authentication);
+    void exportTasks(TaskExportFormat format, OutputStream out, Authentication authentication) throws IOException;
 }
\ No newline at end of file
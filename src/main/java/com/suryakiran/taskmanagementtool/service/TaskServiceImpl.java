@@ -1,26 +1,63 @@
 package com.suryakiran.taskmanagementtool.service;
 
+import com.suryakiran.taskmanagementtool.dto.CursorPage;
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
+import com.suryakiran.taskmanagementtool.dto.TaskChanges;
 import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.TaskStats;
+import com.suryakiran.taskmanagementtool.dto.TaskVersion;
 import com.suryakiran.taskmanagementtool.dto.UserDTO;
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
 import com.suryakiran.taskmanagementtool.exception.AuthenticationRequiredException;
+import com.suryakiran.taskmanagementtool.exception.PreconditionFailedException;
 import com.suryakiran.taskmanagementtool.exception.TaskNotFoundException;
 import com.suryakiran.taskmanagementtool.exception.UserNotFoundException;
 import com.suryakiran.taskmanagementtool.model.Priority;
 import com.suryakiran.taskmanagementtool.model.Status;
 import com.suryakiran.taskmanagementtool.model.Task;
 import com.suryakiran.taskmanagementtool.model.User;
+import com.suryakiran.taskmanagementtool.repository.TaskCursor;
 import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import com.suryakiran.taskmanagementtool.repository.TaskSortKey;
 import com.suryakiran.taskmanagementtool.repository.UserRepository;
+import com.suryakiran.taskmanagementtool.search.TaskSearchIndex;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import com.suryakiran.taskmanagementtool.stream.TaskStreamHub;
+import com.suryakiran.taskmanagementtool.util.TaskETags;
 import com.suryakiran.taskmanagementtool.util.UniqueIdGenerator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TaskServiceImpl implements TaskService {
@@ -28,123 +65,223 @@ public class TaskServiceImpl implements TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
     private static final String USER_NOT_FOUND = "User not found";
     private static final String AUTHENTICATION_REQUIRED = "Authentication required";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 100;
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final UniqueIdGenerator uniqueIdGenerator;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskStatsService taskStatsService;
+    private final TaskStreamHub taskStreamHub;
+    private final TaskSyncService taskSyncService;
+    // Entities written between flushes; matches hibernate.jdbc.batch_size so each flush sends full JDBC batches
+    private final int batchSize;
+    private final int maxBatchItems;
 
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository, UniqueIdGenerator uniqueIdGenerator) {
+    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository, UniqueIdGenerator uniqueIdGenerator,
+                           Validator validator, ApplicationEventPublisher eventPublisher, TaskSearchIndex taskSearchIndex,
+                           TaskStatsService taskStatsService, TaskStreamHub taskStreamHub, TaskSyncService taskSyncService,
+                           @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                           @Value("${task.batch.max-items:10000}") int maxBatchItems) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.uniqueIdGenerator = uniqueIdGenerator;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatsService = taskStatsService;
+        this.taskStreamHub = taskStreamHub;
+        this.taskSyncService = taskSyncService;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBatchItems = maxBatchItems;
     }
 
     @Override
+    @Transactional
     public TaskDTO createTask(TaskDTO taskDTO, Authentication authentication) {
         logger.info("Creating task with title: {}", taskDTO.getTitle());
         if (!authentication.isAuthenticated()) {
             throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
         }
-        User user = userRepository.findByEmail(authentication.getName())
+        int userId = currentUserId(authentication);
+        UserDTO creator = userRepository.findSummaryById(userId)
                 .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
         Task task = convertToEntity(taskDTO);
         task.setId(uniqueIdGenerator.generateUniqueId());
-        task.setUser(user);
+        // The owner is only needed as a foreign key, so a reference avoids loading the user and its roles
+        task.setUser(userRepository.getReferenceById((long) userId));
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangeEvent.created(userId, savedTask));
         logger.info("Task created with ID: {}", savedTask.getId());
-        return convertToDTO(savedTask);
+        return convertToDTO(savedTask, creator);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TaskDTO> getAllTasks(Pageable pageable) {
         logger.info("Retrieving all tasks without authentication");
-        Page<Task> tasks = taskRepository.findAll(pageable);
-        return tasks.map(this::convertToDTO);
+        return taskRepository.findAllDtos(pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TaskDTO> getAllTasks(Pageable pageable, Authentication authentication) {
         logger.info("Retrieving all tasks for user: {}", authentication.getName());
         if (!authentication.isAuthenticated()) {
             return getAllTasks(pageable);
         }
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
-        Page<Task> tasks = taskRepository.findByUser(user, pageable);
-        return tasks.map(this::convertToDTO);
+        return taskRepository.findDtosByUserId(currentUserId(authentication), tieBroken(pageable));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<TaskDTO> getTaskById(String id) {
         logger.info("Fetching task by ID: {}", id);
-        Optional<Task> task = taskRepository.findById(id);
-        return task.map(this::convertToDTO);
+        return taskRepository.findDtoById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<TaskDTO> getTaskById(String id, Authentication authentication) {
         logger.info("Fetching task by ID: {}", id);
         if (!authentication.isAuthenticated()) {
             return getTaskById(id);
         }
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
-        Optional<Task> task = taskRepository.findByIdAndUser(id, user);
-        return task.map(this::convertToDTO);
+        return taskRepository.findDtoByIdAndUserId(id, currentUserId(authentication));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getTaskVersion(String id, Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        return taskRepository.findVersionByIdAndUserId(id, currentUserId(authentication));
     }
 
     @Override
+    @Transactional
     public TaskDTO updateTask(String id, TaskDTO taskDTO, Authentication authentication) {
+        return updateTask(id, taskDTO, null, authentication);
+    }
+
+    // With an expected version the update only applies to that version of the task. Without one it still fails,
+    // rather than overwrites, if another transaction updates the task first.
+    @Override
+    @Transactional
+    public TaskDTO updateTask(String id, TaskDTO taskDTO, Long expectedVersion, Authentication authentication) {
         logger.info("Updating task with ID: {}", id);
         if (!authentication.isAuthenticated()) {
             throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
         }
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
-        Task task = taskRepository.findByIdAndUser(id, user)
+        int userId = currentUserId(authentication);
+        Task task = taskRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+        requireVersion(task, expectedVersion);
+        TaskChangeEvent.Snapshot previous = TaskChangeEvent.Snapshot.of(task);
         task.setTitle(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setStatus(taskDTO.getStatus());
         task.setPriority(taskDTO.getPriority());
         task.setDueDate(taskDTO.getDueDate()); // Set dueDate
         Task updatedTask = taskRepository.save(task);
+        // Flushed so that the version returned is the one just written
+        taskRepository.flush();
+        eventPublisher.publishEvent(TaskChangeEvent.updated(userId, previous, updatedTask));
         logger.info("Task updated with ID: {}", updatedTask.getId());
-        return convertToDTO(updatedTask);
+        return convertToDTO(updatedTask, userRepository.findSummaryById(userId).orElse(null));
     }
 
     @Override
+    @Transactional
     public void deleteTask(String id, Authentication authentication) {
+        deleteTask(id, null, authentication);
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(String id, Long expectedVersion, Authentication authentication) {
         logger.info("Deleting task with ID: {}", id);
         if (!authentication.isAuthenticated()) {
             throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
         }
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
-        Task task = taskRepository.findByIdAndUser(id, user)
+        int userId = currentUserId(authentication);
+        Task task = taskRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+        requireVersion(task, expectedVersion);
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangeEvent.deleted(userId, task));
         logger.info("Task deleted with ID: {}", id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TaskDTO> getTasks(Status status, Priority priority, Pageable pageable) {
         logger.info("Filtering tasks with status: {} and priority: {}", status, priority);
-        Page<Task> tasks = taskRepository.findByStatusOrPriority(status, priority, pageable);
-        return tasks.map(this::convertToDTO);
+        return taskRepository.findDtosByStatusOrPriority(status, priority, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TaskDTO> getTasks(Status status, Priority priority, Pageable pageable, Authentication authentication) {
         logger.info("Filtering tasks with status: {} and priority: {}", status, priority);
         if (!authentication.isAuthenticated()) {
             return getTasks(status, priority, pageable);
         }
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
-        Page<Task> tasks = taskRepository.findByUserAndStatusAndPriority(user, status, priority, pageable);
-        return tasks.map(this::convertToDTO);
+        return taskRepository.findDtosByUserIdAndStatusAndPriority(currentUserId(authentication), status, priority, tieBroken(pageable));
+    }
+
+    // The tag of the page getAllTasks or getTasks would return, from the IDs and versions of its rows
+    @Override
+    @Transactional(readOnly = true)
+    public String getTasksTag(Status status, Priority priority, Pageable pageable, Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        return TaskETags.forPage(taskRepository.findVersionsByUserIdAndStatusAndPriority(
+                currentUserId(authentication), status, priority, tieBroken(pageable)), false, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDTO> getTasksPage(String cursor, int size, String sortBy, String direction,
+                                            Status status, Priority priority, boolean includeCount, Authentication authentication) {
+        logger.info("Retrieving keyset page of tasks for user: {}", authentication.getName());
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        int userId = currentUserId(authentication);
+        KeysetPage page = KeysetPage.of(cursor, size, sortBy, direction);
+
+        // Fetch one extra row to learn whether another page exists without counting
+        List<TaskDTO> tasks = taskRepository.findPageAfter(userId, status, priority, page.sortKey(), page.direction(), page.after(), page.limit() + 1);
+        String next = null;
+        if (tasks.size() > page.limit()) {
+            tasks = tasks.subList(0, page.limit());
+            next = TaskCursor.after(page.sortKey(), page.direction(), tasks.get(page.limit() - 1)).encode();
+        }
+        Long total = includeCount ? taskRepository.countMatching(userId, status, priority) : null;
+        return new CursorPage<>(tasks, next, total);
+    }
+
+    // The tag of the page getTasksPage would return, from the same keyset query reading only IDs and versions
+    @Override
+    @Transactional(readOnly = true)
+    public String getTasksPageTag(String cursor, int size, String sortBy, String direction,
+                                  Status status, Priority priority, boolean includeCount, Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        int userId = currentUserId(authentication);
+        KeysetPage page = KeysetPage.of(cursor, size, sortBy, direction);
+        List<TaskVersion> tasks = taskRepository.findVersionsAfter(userId, status, priority, page.sortKey(), page.direction(), page.after(), page.limit() + 1);
+        boolean hasNext = tasks.size() > page.limit();
+        Long total = includeCount ? taskRepository.countMatching(userId, status, priority) : null;
+        return TaskETags.forPage(hasNext ? tasks.subList(0, page.limit()) : tasks, hasNext, total);
     }
 
     @Override
@@ -152,7 +289,253 @@ public class TaskServiceImpl implements TaskService {
         return taskRepository.existsByIdAndUserId(taskId, userId);
     }
 
-    private TaskDTO convertToDTO(Task task) {
+    // Ranked by the in-memory search index, then loaded in one query and returned in rank order
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDTO> searchTasks(String query, int limit, Authentication authentication) {
+        logger.info("Searching tasks for user: {}", authentication.getName());
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        int userId = currentUserId(authentication);
+        List<String> ids = taskSearchIndex.search(userId, query, Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, TaskDTO> tasks = taskRepository.findDtosByIdInAndUserId(ids, userId).stream()
+                .collect(Collectors.toMap(TaskDTO::getId, Function.identity()));
+        // A task deleted since it was ranked is simply left out
+        return ids.stream().map(tasks::get).filter(task -> task != null).toList();
+    }
+
+    // Counters maintained by every task write, so this does not depend on the number of tasks
+    @Override
+    public TaskStats getTaskStats(Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        return taskStatsService.getStats(currentUserId(authentication));
+    }
+
+    // Served from memory only, so a keystroke never reaches the database
+    @Override
+    public List<String> suggestTitles(String prefix, int limit, Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        return taskSearchIndex.suggestTitles(currentUserId(authentication), prefix, limit);
+    }
+
+    // Bulk writes run in one transaction. Invalid items are reported and skipped; the rest are written with
+    // JDBC batching, flushing and clearing the persistence context every batchSize tasks.
+    @Override
+    @Transactional
+    public List<TaskBatchResult> createTasks(List<TaskDTO> taskDTOs, Authentication authentication) {
+        logger.info("Creating {} tasks in bulk", taskDTOs.size());
+        int userId = batchUserId(taskDTOs.size(), authentication);
+        User owner = userRepository.getReferenceById((long) userId);
+
+        List<TaskBatchResult> results = new ArrayList<>(taskDTOs.size());
+        List<Integer> validIndexes = new ArrayList<>(taskDTOs.size());
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            List<String> errors = validate(taskDTOs.get(i));
+            results.add(errors.isEmpty() ? null : TaskBatchResult.invalid(i, null, errors));
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+            }
+        }
+
+        List<String> ids = uniqueIdGenerator.generateUniqueIds(validIndexes.size());
+        List<Task> pending = new ArrayList<>(batchSize);
+        for (int i = 0; i < validIndexes.size(); i++) {
+            int index = validIndexes.get(i);
+            Task task = convertToEntity(taskDTOs.get(index));
+            task.setId(ids.get(i));
+            task.setUser(owner);
+            pending.add(task);
+            eventPublisher.publishEvent(TaskChangeEvent.created(userId, task));
+            results.set(index, TaskBatchResult.of(index, task.getId(), TaskBatchResult.Status.CREATED));
+            if (pending.size() == batchSize) {
+                taskRepository.saveAll(pending);
+                taskRepository.flushAndClear();
+                pending.clear();
+            }
+        }
+        taskRepository.saveAll(pending);
+        taskRepository.flush();
+        logger.info("Created {} of {} tasks", validIndexes.size(), taskDTOs.size());
+        return results;
+    }
+
+    // Only the caller's own tasks are updated; other IDs are reported as NOT_FOUND
+    @Override
+    @Transactional
+    public List<TaskBatchResult> updateTasks(List<TaskDTO> taskDTOs, Authentication authentication) {
+        logger.info("Updating {} tasks in bulk", taskDTOs.size());
+        int userId = batchUserId(taskDTOs.size(), authentication);
+
+        List<TaskBatchResult> results = new ArrayList<>(taskDTOs.size());
+        for (int from = 0; from < taskDTOs.size(); from += batchSize) {
+            List<TaskDTO> chunk = taskDTOs.subList(from, Math.min(from + batchSize, taskDTOs.size()));
+            Set<String> chunkIds = new HashSet<>();
+            chunk.stream().filter(taskDTO -> taskDTO != null && taskDTO.getId() != null)
+                    .forEach(taskDTO -> chunkIds.add(taskDTO.getId()));
+            Map<String, Task> owned = new HashMap<>();
+            taskRepository.findByIdInAndUserId(chunkIds, userId).forEach(task -> owned.put(task.getId(), task));
+
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = from + i;
+                TaskDTO taskDTO = chunk.get(i);
+                List<String> errors = validate(taskDTO);
+                if (!errors.isEmpty()) {
+                    results.add(TaskBatchResult.invalid(index, taskDTO == null ? null : taskDTO.getId(), errors));
+                    continue;
+                }
+                Task task = owned.get(taskDTO.getId());
+                if (task == null) {
+                    results.add(TaskBatchResult.of(index, taskDTO.getId(), TaskBatchResult.Status.NOT_FOUND));
+                } else {
+                    TaskChangeEvent.Snapshot previous = TaskChangeEvent.Snapshot.of(task);
+                    task.setTitle(taskDTO.getTitle());
+                    task.setDescription(taskDTO.getDescription());
+                    task.setStatus(taskDTO.getStatus());
+                    task.setPriority(taskDTO.getPriority());
+                    task.setDueDate(taskDTO.getDueDate());
+                    eventPublisher.publishEvent(TaskChangeEvent.updated(userId, previous, task));
+                    results.add(TaskBatchResult.of(index, task.getId(), TaskBatchResult.Status.UPDATED));
+                }
+            }
+            // Dirty checking turns the changes into one batched UPDATE per chunk
+            taskRepository.flushAndClear();
+        }
+        return results;
+    }
+
+    // Each chunk of owned IDs is removed with a single DELETE ... WHERE id IN (...). The tasks are read first so
+    // that listeners learn what was deleted.
+    @Override
+    @Transactional
+    public List<TaskBatchResult> deleteTasks(List<String> ids, Authentication authentication) {
+        logger.info("Deleting {} tasks in bulk", ids.size());
+        int userId = batchUserId(ids.size(), authentication);
+
+        List<TaskBatchResult> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            Set<String> chunkIds = new HashSet<>(chunk);
+            chunkIds.remove(null);
+            Map<String, Task> owned = chunkIds.isEmpty() ? Map.of() : taskRepository.findByIdInAndUserId(chunkIds, userId).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+            if (!owned.isEmpty()) {
+                taskRepository.deleteAllByIdInBatch(owned.keySet());
+                owned.values().forEach(task -> eventPublisher.publishEvent(TaskChangeEvent.deleted(userId, task)));
+                taskRepository.flushAndClear();
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                String id = chunk.get(i);
+                results.add(TaskBatchResult.of(from + i, id,
+                        owned.containsKey(id) ? TaskBatchResult.Status.DELETED : TaskBatchResult.Status.NOT_FOUND));
+            }
+        }
+        return results;
+    }
+
+    // Changes are pushed once their transaction commits; see TaskStreamHub
+    @Override
+    public SseEmitter streamTasks(Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        return taskStreamHub.subscribe(currentUserId(authentication));
+    }
+
+    @Override
+    public TaskChanges getTaskChanges(String since, int limit, Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        return taskSyncService.getChanges(currentUserId(authentication), since, limit);
+    }
+
+    // Called from the response-writing thread, so the transaction and its connection last only as long as the
+    // transfer. Rows are DTO projections read through a forward-only cursor, so memory does not grow with the export.
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskExportFormat format, OutputStream out, Authentication authentication) throws IOException {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        int userId = currentUserId(authentication);
+        logger.info("Exporting tasks for user {} as {}", userId, format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long exported = 0;
+        try (Stream<TaskDTO> tasks = taskRepository.streamDtosByUserId(userId)) {
+            TaskExportFormat.RowWriter rows = format.writer(writer);
+            for (Iterator<TaskDTO> iterator = tasks.iterator(); iterator.hasNext(); exported++) {
+                rows.write(iterator.next());
+            }
+            rows.flush();
+        }
+        writer.flush();
+        logger.info("Exported {} tasks for user {}", exported, userId);
+    }
+
+    private static void requireVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && task.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("Task " + task.getId() + " is at version " + task.getVersion());
+        }
+    }
+
+    // Pages are ordered by id after the requested sort, so a page holds the same rows whichever columns are read
+    private static Pageable tieBroken(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor("id") != null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+    }
+
+    // A cursor carries its own ordering so that every page of a scroll is sorted the same way
+    private record KeysetPage(TaskCursor after, TaskSortKey sortKey, Sort.Direction direction, int limit) {
+        static KeysetPage of(String cursor, int size, String sortBy, String direction) {
+            TaskCursor after = cursor == null || cursor.isEmpty() ? null : TaskCursor.decode(cursor);
+            return new KeysetPage(after,
+                    after != null ? after.getSortKey() : TaskSortKey.fromProperty(sortBy),
+                    after != null ? after.getDirection() : Sort.Direction.fromString(direction),
+                    Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        }
+    }
+
+    private int batchUserId(int items, Authentication authentication) {
+        if (!authentication.isAuthenticated()) {
+            throw new AuthenticationRequiredException(AUTHENTICATION_REQUIRED);
+        }
+        if (items > maxBatchItems) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxBatchItems + " items");
+        }
+        return currentUserId(authentication);
+    }
+
+    private List<String> validate(TaskDTO taskDTO) {
+        if (taskDTO == null) {
+            return List.of("Task is required");
+        }
+        return validator.validate(taskDTO).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+    }
+
+    private int currentUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+        // Authentications not built by JwtRequestFilter carry no id and still need the lookup
+        return userRepository.findByEmail(authentication.getName())
+                .map(User::getId)
+                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
+    }
+
+    private TaskDTO convertToDTO(Task task, UserDTO creator) {
         TaskDTO taskDTO = new TaskDTO();
         taskDTO.setId(task.getId());
         taskDTO.setTitle(task.getTitle());
@@ -160,18 +543,12 @@ public class TaskServiceImpl implements TaskService {
         taskDTO.setStatus(task.getStatus());
         taskDTO.setPriority(task.getPriority());
         taskDTO.setDueDate(task.getDueDate()); // Set dueDate
+        taskDTO.setVersion(task.getVersion());
 
-        User creator = task.getUser();
         if (creator != null) {
             taskDTO.setCreatorFirstName(creator.getFirstName());
             taskDTO.setCreatorLastName(creator.getLastName());
-            UserDTO creatorDTO = new UserDTO();
-            creatorDTO.setId(creator.getId());
-            creatorDTO.setFirstName(creator.getFirstName());
-            creatorDTO.setLastName(creator.getLastName());
-            creatorDTO.setEmail(creator.getEmail());
-            creatorDTO.setCreatedAt(creator.getCreatedAt());
-            taskDTO.setCreator(creatorDTO);
+            taskDTO.setCreator(creator);
         }
 
         return taskDTO;
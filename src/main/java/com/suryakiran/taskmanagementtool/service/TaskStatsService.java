@@ -0,0 +1,281 @@
+package com.suryakiran.taskmanagementtool.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.suryakiran.taskmanagementtool.dto.TaskStats;
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.model.TaskCounter;
+import com.suryakiran.taskmanagementtool.model.TaskCounter.Dimension;
+import com.suryakiran.taskmanagementtool.repository.TaskCounterRepository;
+import com.suryakiran.taskmanagementtool.repository.TaskGroupCount;
+import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import com.suryakiran.taskmanagementtool.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+// Per-user task counts by status, priority and due date, kept in task_counter. Task writes add their changes to
+// a tally bound to the transaction, which is applied just before it commits as one batch of upserts in key order,
+// so concurrent writers lock counter rows in the same order. Reads are served from a cache of each user's
+// counters, dropped when one of the user's writes commits and after a short TTL, since other nodes write too.
+// The due buckets are derived from the per-day counts once a day. A scheduled job recomputes every user's
+// counters with a grouped query and corrects drift, such as from rows written outside TaskService.
+@Service
+public class TaskStatsService implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsService.class);
+    private static final int RECONCILE_PAGE_SIZE = 500;
+
+    private final TaskCounterRepository taskCounterRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zone;
+    private final AsyncCache<Integer, UserCounters> counters;
+
+    private record CounterKey(int userId, Dimension dimension, String bucket) implements Comparable<CounterKey> {
+        @Override
+        public int compareTo(CounterKey other) {
+            int byUser = Integer.compare(userId, other.userId);
+            if (byUser != 0) {
+                return byUser;
+            }
+            int byDimension = dimension.name().compareTo(other.dimension.name());
+            return byDimension != 0 ? byDimension : bucket.compareTo(other.bucket);
+        }
+    }
+
+    public TaskStatsService(TaskCounterRepository taskCounterRepository, TaskRepository taskRepository,
+                            UserRepository userRepository, PlatformTransactionManager transactionManager,
+                            @Value("${task.stats.zone:}") String zone,
+                            @Value("${task.stats.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${task.stats.cache.ttl:PT1M}") Duration ttl) {
+        this.taskCounterRepository = taskCounterRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // The counters are loaded on the calling thread once its pending entry is in the cache. A loader running
+    // inside the cache's compute would hold a map lock through the query, pinning a virtual thread to its carrier.
+    public TaskStats getStats(int userId) {
+        CompletableFuture<UserCounters> loading = new CompletableFuture<>();
+        CompletableFuture<UserCounters> entry = counters.get(userId, (id, executor) -> loading);
+        if (entry == loading) {
+            try {
+                loading.complete(load(userId));
+            } catch (RuntimeException e) {
+                // Failed entries are dropped from the cache
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return entry.join().stats(LocalDate.now(zone));
+    }
+
+    // Runs in the writing transaction as each change is published
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            logger.warn("Task {} changed outside a transaction; counters are left to reconciliation", event.taskId());
+            return;
+        }
+        Map<CounterKey, Long> tally = tally();
+        count(tally, event.userId(), event.previous(), -1);
+        count(tally, event.userId(), event.current(), 1);
+    }
+
+    @Scheduled(fixedDelayString = "${task.stats.reconcile-interval:PT6H}", initialDelayString = "${task.stats.reconcile-interval:PT6H}")
+    public void reconcileAll() {
+        long started = System.currentTimeMillis();
+        int users = 0;
+        int corrected = 0;
+        List<Integer> userIds;
+        int after = Integer.MIN_VALUE;
+        do {
+            userIds = userRepository.findIdsAfter(after, Limit.of(RECONCILE_PAGE_SIZE));
+            for (int userId : userIds) {
+                users++;
+                if (reconcile(userId)) {
+                    corrected++;
+                }
+                after = userId;
+            }
+        } while (userIds.size() == RECONCILE_PAGE_SIZE);
+        logger.info("Reconciled task counters of {} users in {} ms, {} corrected", users,
+                System.currentTimeMillis() - started, corrected);
+    }
+
+    // Recomputes one user's counters while holding their rows, so no task write commits in between; returns
+    // whether any counter was wrong
+    public boolean reconcile(int userId) {
+        Boolean corrected = transactionTemplate.execute(status -> {
+            Map<CounterKey, Long> stored = new HashMap<>();
+            for (TaskCounter counter : taskCounterRepository.lockByUserId(userId)) {
+                stored.put(new CounterKey(userId, counter.getDimension(), counter.getBucket()), counter.getTaskCount());
+            }
+            Map<CounterKey, Long> actual = new TreeMap<>();
+            for (TaskGroupCount group : taskRepository.countGroupedByUserId(userId)) {
+                actual.merge(new CounterKey(userId, Dimension.STATUS, group.status().name()), group.count(), Long::sum);
+                actual.merge(new CounterKey(userId, Dimension.PRIORITY, group.priority().name()), group.count(), Long::sum);
+                if (group.status() != Status.COMPLETE) {
+                    actual.merge(new CounterKey(userId, Dimension.DUE, group.dueDate().toString()), group.count(), Long::sum);
+                }
+            }
+            boolean drifted = false;
+            for (Map.Entry<CounterKey, Long> entry : actual.entrySet()) {
+                Long count = stored.remove(entry.getKey());
+                if (!entry.getValue().equals(count)) {
+                    CounterKey key = entry.getKey();
+                    taskCounterRepository.set(userId, key.dimension().name(), key.bucket(), entry.getValue());
+                    drifted = true;
+                }
+            }
+            // Left over: buckets without tasks
+            for (Map.Entry<CounterKey, Long> entry : stored.entrySet()) {
+                taskCounterRepository.delete(userId, entry.getKey().dimension(), entry.getKey().bucket());
+                drifted |= entry.getValue() != 0;
+            }
+            return drifted;
+        });
+        counters.synchronous().invalidate(userId);
+        if (Boolean.TRUE.equals(corrected)) {
+            logger.warn("Corrected drifted task counters of user {}", userId);
+        }
+        return Boolean.TRUE.equals(corrected);
+    }
+
+    // Published as cache.gets{cache=taskStats} and friends
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, counters, "taskStats");
+    }
+
+    // The transaction's pending counter changes, created with the synchronization that applies them
+    @SuppressWarnings("unchecked")
+    private Map<CounterKey, Long> tally() {
+        Map<CounterKey, Long> tally = (Map<CounterKey, Long>) TransactionSynchronizationManager.getResource(this);
+        if (tally != null) {
+            return tally;
+        }
+        Map<CounterKey, Long> created = new TreeMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                List<TaskCounter> deltas = new ArrayList<>(created.size());
+                created.forEach((key, delta) -> {
+                    if (delta != 0) {
+                        deltas.add(new TaskCounter(key.userId(), key.dimension(), key.bucket(), delta));
+                    }
+                });
+                taskCounterRepository.incrementAll(deltas);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskStatsService.this);
+                if (status == STATUS_COMMITTED) {
+                    created.keySet().stream().map(CounterKey::userId).distinct().forEach(counters.synchronous()::invalidate);
+                }
+            }
+        });
+        return created;
+    }
+
+    private static void count(Map<CounterKey, Long> tally, int userId, TaskChangeEvent.Snapshot task, long delta) {
+        if (task == null) {
+            return;
+        }
+        tally.merge(new CounterKey(userId, Dimension.STATUS, task.status().name()), delta, Long::sum);
+        tally.merge(new CounterKey(userId, Dimension.PRIORITY, task.priority().name()), delta, Long::sum);
+        if (task.status() != Status.COMPLETE && task.dueDate() != null) {
+            tally.merge(new CounterKey(userId, Dimension.DUE, task.dueDate().toString()), delta, Long::sum);
+        }
+    }
+
+    private UserCounters load(int userId) {
+        UserCounters loaded = new UserCounters();
+        for (TaskCounter counter : taskCounterRepository.findByUserId(userId)) {
+            switch (counter.getDimension()) {
+                case STATUS -> loaded.byStatus.merge(Status.valueOf(counter.getBucket()), counter.getTaskCount(), Long::sum);
+                case PRIORITY -> loaded.byPriority.merge(Priority.valueOf(counter.getBucket()), counter.getTaskCount(), Long::sum);
+                case DUE -> loaded.openByDueDate.merge(LocalDate.parse(counter.getBucket()), counter.getTaskCount(), Long::sum);
+            }
+        }
+        return loaded;
+    }
+
+    // A user's counters as stored; the response is built once per day, since the due buckets move with the date
+    private static final class UserCounters {
+        private final Map<Status, Long> byStatus = new HashMap<>();
+        private final Map<Priority, Long> byPriority = new HashMap<>();
+        private final TreeMap<LocalDate, Long> openByDueDate = new TreeMap<>();
+        private LocalDate builtFor;
+        private TaskStats stats;
+
+        synchronized TaskStats stats(LocalDate today) {
+            if (!today.equals(builtFor)) {
+                stats = build(today);
+                builtFor = today;
+            }
+            return stats;
+        }
+
+        private TaskStats build(LocalDate today) {
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            long total = 0;
+            for (Status status : Status.values()) {
+                long count = byStatus.getOrDefault(status, 0L);
+                statuses.put(status.getDisplayName(), count);
+                total += count;
+            }
+            Map<String, Long> priorities = new LinkedHashMap<>();
+            for (Priority priority : Priority.values()) {
+                priorities.put(priority.getDisplayName(), byPriority.getOrDefault(priority, 0L));
+            }
+            LocalDate endOfWeek = today.with(DayOfWeek.SUNDAY);
+            return new TaskStats(total, statuses, priorities, new TaskStats.DueCounts(
+                    sum(openByDueDate.headMap(today, false)),
+                    openByDueDate.getOrDefault(today, 0L),
+                    sum(openByDueDate.subMap(today, false, endOfWeek, true)),
+                    sum(openByDueDate.tailMap(endOfWeek, false))));
+        }
+
+        private static long sum(Map<LocalDate, Long> counts) {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
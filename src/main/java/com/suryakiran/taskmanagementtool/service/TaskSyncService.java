@@ -0,0 +1,171 @@
+package com.suryakiran.taskmanagementtool.service;
+
+import com.suryakiran.taskmanagementtool.dto.TaskChanges;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+import com.suryakiran.taskmanagementtool.repository.TaskChangeKey;
+import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import com.suryakiran.taskmanagementtool.repository.TaskSyncState;
+import com.suryakiran.taskmanagementtool.repository.TaskTombstoneRepository;
+import com.suryakiran.taskmanagementtool.repository.TaskWatermark;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Delta sync for offline clients. Task writes add the tasks they touch to a set bound to the transaction; just
+// before it commits, each user's share takes the next number of that user's change sequence, stamped on the
+// changed tasks and on a tombstone for each deleted one. The sequence row stays locked until the commit, so a
+// user's changes become visible in sequence order and a reader never skips a number that commits later. Clients
+// read their feed in (sequence number, task ID) order from a watermark. Tombstones older than the retention
+// period are pruned, and clients whose watermark predates the pruning are sent a full sync instead.
+@Service
+public class TaskSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSyncService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration tombstoneRetention;
+    private final int maxChanges;
+
+    private record UserChanges(Set<String> changed, Set<String> deleted) {
+        UserChanges() {
+            this(new LinkedHashSet<>(), new LinkedHashSet<>());
+        }
+    }
+
+    public TaskSyncService(TaskRepository taskRepository, TaskTombstoneRepository taskTombstoneRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${task.sync.tombstone-retention:P30D}") Duration tombstoneRetention,
+                           @Value("${task.sync.max-changes:5000}") int maxChanges) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tombstoneRetention = tombstoneRetention;
+        this.maxChanges = maxChanges;
+    }
+
+    // One transaction, so the pruning mark, the tasks and the tombstones are read from the same snapshot
+    @Transactional(readOnly = true)
+    public TaskChanges getChanges(int userId, String since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxChanges));
+        TaskWatermark after = since == null || since.isBlank() ? null : TaskWatermark.decode(since);
+        long prunedSeq = taskTombstoneRepository.findPrunedSeq(userId).orElse(0L);
+        // Tombstones after the watermark have been pruned, unless the client's copy came from a full sync served
+        // since; the pages of a full sync start below the pruning mark
+        boolean reset = after == null || (after.prunedSeq() < prunedSeq && after.changeSeq() <= prunedSeq);
+        TaskWatermark from = reset ? TaskWatermark.START.withPrunedSeq(prunedSeq) : after;
+
+        Limit fetch = Limit.of(pageSize + 1);
+        List<TaskChangeKey> tasks = taskRepository.findChangeKeysAfter(userId, from.changeSeq(), from.lastId(), fetch);
+        // A full sync only lists the tasks that exist; deletions before it no longer matter to the client
+        List<TaskChangeKey> tombstones = reset ? List.of()
+                : taskTombstoneRepository.findKeysAfter(userId, from.changeSeq(), from.lastId(), fetch);
+
+        // Both are in feed order; the page takes the first pageSize of the two together
+        List<String> changedIds = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        TaskChangeKey last = null;
+        int t = 0;
+        int d = 0;
+        while (t + d < pageSize && (t < tasks.size() || d < tombstones.size())) {
+            if (d == tombstones.size() || (t < tasks.size() && tasks.get(t).compareTo(tombstones.get(d)) < 0)) {
+                last = tasks.get(t++);
+                changedIds.add(last.id());
+            } else {
+                last = tombstones.get(d++);
+                deleted.add(last.id());
+            }
+        }
+        boolean hasMore = t < tasks.size() || d < tombstones.size();
+
+        Map<String, TaskDTO> dtos = changedIds.isEmpty() ? Map.of()
+                : taskRepository.findDtosByIdInAndUserId(changedIds, userId).stream()
+                        .collect(Collectors.toMap(TaskDTO::getId, Function.identity()));
+        List<TaskDTO> changed = changedIds.stream().map(dtos::get).filter(Objects::nonNull).toList();
+        TaskWatermark watermark = last != null ? TaskWatermark.at(last, from.prunedSeq()) : from;
+        return new TaskChanges(reset, changed, deleted, watermark.encode(), hasMore);
+    }
+
+    // Each user whose change sequence moved at or after since (epoch millis), for readers following every feed
+    @Transactional(readOnly = true)
+    public List<TaskSyncState> getStatesChangedSince(long since) {
+        return taskTombstoneRepository.findStatesChangedSince(since);
+    }
+
+    // Runs in the writing transaction as each change is published
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            logger.warn("Task {} changed outside a transaction; it is missing from the change feed", event.taskId());
+            return;
+        }
+        UserChanges changes = pending().computeIfAbsent(event.userId(), userId -> new UserChanges());
+        if (event.type() == TaskChangeEvent.Type.DELETED) {
+            changes.changed().remove(event.taskId());
+            changes.deleted().add(event.taskId());
+        } else {
+            changes.changed().add(event.taskId());
+        }
+    }
+
+    // Records each user's pruning mark before deleting their old tombstones, in one transaction. Tombstones
+    // written meanwhile are newer than the cutoff.
+    @Scheduled(fixedDelayString = "${task.sync.prune-interval:PT1H}")
+    public void pruneTombstones() {
+        long cutoff = System.currentTimeMillis() - tombstoneRetention.toMillis();
+        Integer pruned = transactionTemplate.execute(status -> {
+            taskTombstoneRepository.raisePrunedSeq(cutoff);
+            return taskTombstoneRepository.deleteDeletedBefore(cutoff);
+        });
+        if (pruned != null && pruned > 0) {
+            logger.info("Pruned {} task tombstones", pruned);
+        }
+    }
+
+    // The transaction's changes by user, created with the synchronization that records them. Users are recorded
+    // in ID order, so concurrent writers lock sequence rows in the same order.
+    @SuppressWarnings("unchecked")
+    private Map<Integer, UserChanges> pending() {
+        Map<Integer, UserChanges> pending = (Map<Integer, UserChanges>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<Integer, UserChanges> created = new TreeMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                created.forEach((userId, changes) ->
+                        taskTombstoneRepository.recordChanges(userId, changes.changed(), changes.deleted()));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskSyncService.this);
+            }
+        });
+        return created;
+    }
+}
@@ -1,20 +1,110 @@
 package com.suryakiran.taskmanagementtool.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import com.suryakiran.taskmanagementtool.util.TokenDigest;
+import com.suryakiran.taskmanagementtool.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+// Revoked tokens by digest. An entry is only needed while the token could still pass verification,
+// so it expires on Caffeine's timer wheel once the token's exp (plus the allowed clock skew) has passed.
 @Service
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MeterBinder {
 
-    private final Set<String> blacklistedTokens = new HashSet<>();
+    private final Cache<TokenDigest, Long> revokedTokens;
+    // Bumped on every revocation so stateless authentication knows to revalidate against the database
+    private final AtomicLong revocationVersion = new AtomicLong();
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public void blacklistToken(String token) {
-        blacklistedTokens.add(token);
+    @Autowired
+    public TokenBlacklistService(VerifiedTokenCache verifiedTokenCache) {
+        this(verifiedTokenCache, Ticker.systemTicker());
+    }
+
+    public TokenBlacklistService(VerifiedTokenCache verifiedTokenCache, Ticker ticker) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new ExpireAtTokenExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    // expiresAtMillis is the token's verified exp; tokens that can no longer be accepted are not stored
+    public void blacklistToken(String token, long expiresAtMillis) {
+        blacklistToken(TokenDigest.of(token), expiresAtMillis);
+    }
+
+    // Idempotent, so replicated revocations can be applied more than once
+    public void blacklistToken(TokenDigest digest, long expiresAtMillis) {
+        if (acceptedUntil(expiresAtMillis) > System.currentTimeMillis()
+                && revokedTokens.asMap().putIfAbsent(digest, expiresAtMillis) == null) {
+            revocationVersion.incrementAndGet();
+        }
+        verifiedTokenCache.invalidate(digest);
     }
 
     public boolean isBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+        return isBlacklisted(TokenDigest.of(token));
+    }
+
+    public boolean isBlacklisted(TokenDigest digest) {
+        return revokedTokens.getIfPresent(digest) != null;
+    }
+
+    public long getRevocationVersion() {
+        return revocationVersion.get();
+    }
+
+    public long size() {
+        revokedTokens.cleanUp();
+        return revokedTokens.estimatedSize();
+    }
+
+    // Published as cache.size and cache.evictions{cache=revokedTokens}, plus the running revocation count
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, revokedTokens, "revokedTokens");
+        Gauge.builder("jwt.revocations", revocationVersion, AtomicLong::get)
+                .description("Tokens revoked since startup")
+                .register(registry);
+    }
+
+    // JwtUtil still accepts a token for CLOCK_SKEW after its exp
+    private static long acceptedUntil(long expiresAtMillis) {
+        return expiresAtMillis > Long.MAX_VALUE - JwtUtil.CLOCK_SKEW ? Long.MAX_VALUE : expiresAtMillis + JwtUtil.CLOCK_SKEW;
+    }
+
+    private static final class ExpireAtTokenExpiry implements Expiry<TokenDigest, Long> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Long expiresAtMillis, long currentTime) {
+            long remainingMillis = acceptedUntil(expiresAtMillis) - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.suryakiran.taskmanagementtool.service;
+
+import com.suryakiran.taskmanagementtool.model.RevokedToken;
+import com.suryakiran.taskmanagementtool.repository.RevokedTokenRepository;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import com.suryakiran.taskmanagementtool.util.TokenDigest;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Persists revocations to the revoked_token table and keeps this node's TokenBlacklistService in step with
+// every other node by polling the table's change sequence. Lookups never leave memory.
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final int POLL_BATCH_SIZE = 500;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final long pollOverlap;
+
+    // Highest sequence applied so far; only advanced by poll, which the scheduler never runs concurrently
+    private volatile long lastSeq;
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, TokenBlacklistService tokenBlacklistService,
+                                  @Value("${security.jwt.revocation.poll-overlap:100}") long pollOverlap) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.pollOverlap = pollOverlap;
+    }
+
+    // Load the replica before the node serves requests, so a restart does not forget revocations
+    @PostConstruct
+    public void loadReplica() {
+        poll();
+        logger.info("Loaded {} revoked tokens, change sequence at {}", tokenBlacklistService.size(), lastSeq);
+    }
+
+    public void revoke(String token, long expiresAtMillis) {
+        if (expiresAtMillis + JwtUtil.CLOCK_SKEW <= System.currentTimeMillis()) {
+            return;
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        try {
+            revokedTokenRepository.save(new RevokedToken(digest.toBytes(), expiresAtMillis));
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Token was already revoked");
+        }
+        tokenBlacklistService.blacklistToken(digest, expiresAtMillis);
+    }
+
+    // Auto-increment values can become visible out of order when inserts commit concurrently, so every poll
+    // re-reads the last pollOverlap sequence numbers. Applying a revocation twice is harmless.
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.poll-interval:PT2S}")
+    public void poll() {
+        // A lock rather than synchronized: the query would pin a virtual scheduler thread to its carrier
+        pollLock.lock();
+        try {
+            long from = Math.max(lastSeq - pollOverlap, 0);
+            List<RevokedToken> changes;
+            do {
+                changes = revokedTokenRepository.findChangesAfter(from, System.currentTimeMillis() - JwtUtil.CLOCK_SKEW, Limit.of(POLL_BATCH_SIZE));
+                for (RevokedToken change : changes) {
+                    tokenBlacklistService.blacklistToken(TokenDigest.fromBytes(change.getDigest()), change.getExpiresAt());
+                    from = change.getSeq();
+                }
+                lastSeq = Math.max(lastSeq, from);
+            } while (changes.size() == POLL_BATCH_SIZE);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.prune-interval:PT10M}")
+    public void pruneExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(System.currentTimeMillis() - JwtUtil.CLOCK_SKEW);
+        if (deleted > 0) {
+            logger.info("Pruned {} expired revoked tokens", deleted);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.suryakiran.taskmanagementtool.stream;
+
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// A subscriber's undelivered events, at most one per task: a task's later changes are merged into its pending
+// event, so a burst of edits costs one event. Once more than capacity tasks are pending the events are dropped and
+// a single resync is delivered instead, which bounds the memory a slow subscriber can hold.
+public class TaskEventBuffer {
+
+    private final int capacity;
+    private Map<String, TaskStreamEvent> pending = new LinkedHashMap<>();
+    private boolean overflowed;
+
+    public TaskEventBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void offer(TaskChangeEvent event) {
+        if (overflowed) {
+            return;
+        }
+        TaskStreamEvent.Type type = switch (event.type()) {
+            case CREATED -> TaskStreamEvent.Type.CREATED;
+            case UPDATED -> TaskStreamEvent.Type.UPDATED;
+            case DELETED -> TaskStreamEvent.Type.DELETED;
+        };
+        TaskStreamEvent queued = pending.get(event.taskId());
+        if (queued != null && queued.type() == TaskStreamEvent.Type.CREATED) {
+            // The subscriber has not seen the task yet: it is still new, or was never there
+            if (type == TaskStreamEvent.Type.DELETED) {
+                pending.remove(event.taskId());
+                return;
+            }
+            type = TaskStreamEvent.Type.CREATED;
+        }
+        if (queued == null && pending.size() >= capacity) {
+            pending = new LinkedHashMap<>();
+            overflowed = true;
+            return;
+        }
+        pending.put(event.taskId(), TaskStreamEvent.of(type, event.taskId(), event.current()));
+    }
+
+    // Everything pending, oldest task first, leaving the buffer empty
+    public synchronized List<TaskStreamEvent> drain() {
+        if (overflowed) {
+            overflowed = false;
+            return List.of(TaskStreamEvent.resync());
+        }
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        List<TaskStreamEvent> events = new ArrayList<>(pending.values());
+        pending = new LinkedHashMap<>();
+        return events;
+    }
+
+    public synchronized boolean isEmpty() {
+        return !overflowed && pending.isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package com.suryakiran.taskmanagementtool.stream;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+
+import java.sql.Date;
+
+// One event of a task stream: the type is sent as the SSE event name and the rest as its JSON data. Deleted tasks
+// carry only their id, and a resync carries nothing.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskStreamEvent(@JsonIgnore Type type, String id, String title, String description,
+                              Status status, Priority priority, Date dueDate) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED,
+        // Events were dropped because the subscriber fell behind: reload the tasks
+        RESYNC
+    }
+
+    public static TaskStreamEvent of(Type type, String id, TaskChangeEvent.Snapshot task) {
+        if (task == null) {
+            return new TaskStreamEvent(type, id, null, null, null, null, null);
+        }
+        return new TaskStreamEvent(type, id, task.title(), task.description(), task.status(), task.priority(), task.dueDate());
+    }
+
+    public static TaskStreamEvent resync() {
+        return new TaskStreamEvent(Type.RESYNC, null, null, null, null, null, null);
+    }
+
+    public String eventName() {
+        return type.name().toLowerCase();
+    }
+}
@@ -0,0 +1,274 @@
+package com.suryakiran.taskmanagementtool.stream;
+
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+import com.suryakiran.taskmanagementtool.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fans committed task changes out to each user's open event streams. A stream is an async request that holds no
+// thread while idle. Committing threads only add the change to each subscriber's TaskEventBuffer, which merges a
+// task's changes and turns overflow into a single resync event. A fixed set of sender threads then writes the
+// events out, with at most one send in progress or queued per subscriber. A write blocks while the client's socket
+// buffer is full, so every write has a deadline: a stream whose write misses it is evicted, its sender interrupted
+// and the stream completed, and a client that stops reading holds a sender for write-timeout at most. Idle streams
+// get a heartbeat comment, which also detects connections that have gone away.
+// Changes are seen only by streams on the node that made them.
+@Component
+public class TaskStreamHub implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStreamHub.class);
+
+    private final int bufferSize;
+    private final Duration heartbeat;
+    private final Duration timeout;
+    private final Duration writeTimeout;
+    private final int maxSubscribers;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService timers;
+    private final Map<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    private final class Subscriber {
+        private final int userId;
+        private final SseEmitter emitter;
+        private final TaskEventBuffer buffer = new TaskEventBuffer(bufferSize);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean(true);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean evicted = new AtomicBoolean();
+        private volatile long lastSentNanos = System.nanoTime();
+        // When the write in progress started, or 0 between writes
+        private volatile long writeStartedNanos;
+        private volatile Future<?> sendTask;
+
+        private Subscriber(int userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private boolean hasWork() {
+            return !closed.get() && (heartbeatDue.get() || !buffer.isEmpty());
+        }
+    }
+
+    public TaskStreamHub(@Value("${task.stream.buffer-size:256}") int bufferSize,
+                         @Value("${task.stream.heartbeat:PT15S}") Duration heartbeat,
+                         @Value("${task.stream.timeout:PT30M}") Duration timeout,
+                         @Value("${task.stream.write-timeout:PT10S}") Duration writeTimeout,
+                         @Value("${task.stream.max-subscribers:50000}") int maxSubscribers,
+                         @Value("${task.stream.senders:4}") int senders) {
+        this.bufferSize = bufferSize;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+        this.writeTimeout = writeTimeout;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threads = new AtomicInteger();
+        // One send at most per subscriber, so the subscriber limit also bounds the queue
+        this.senders = new ThreadPoolExecutor(senders, senders, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxSubscribers)), runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timers = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        timers.scheduleWithFixedDelay(this::beat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        long check = Math.max(1, writeTimeout.toMillis() / 2);
+        timers.scheduleWithFixedDelay(this::evictStalled, check, check, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timers.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(streams -> streams.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    // Opens a stream of the user's task changes; it starts with a heartbeat, so the response is committed at once
+    public SseEmitter subscribe(int userId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open task streams", heartbeat);
+        }
+        Subscriber subscriber = new Subscriber(userId, createEmitter(timeout));
+        // Added under the map's lock for the user, so it cannot land in a set that remove() is discarding
+        subscribers.compute(userId, (id, streams) -> {
+            Set<Subscriber> added = streams != null ? streams : ConcurrentHashMap.newKeySet();
+            added.add(subscriber);
+            return added;
+        });
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        // Completing it ends the response normally; otherwise the timeout is raised as an error on an event stream
+        subscriber.emitter.onTimeout(() -> {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        });
+        subscriber.emitter.onError(error -> remove(subscriber));
+        schedule(subscriber);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        Set<Subscriber> streams = subscribers.get(event.userId());
+        if (streams == null) {
+            return;
+        }
+        for (Subscriber subscriber : streams) {
+            subscriber.buffer.offer(event);
+            schedule(subscriber);
+        }
+    }
+
+    // Overridden in tests to stand in for the client's connection
+    protected SseEmitter createEmitter(Duration timeout) {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    public int subscribers() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("task.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task event streams")
+                .register(registry);
+        FunctionCounter.builder("task.stream.resyncs", resyncs, AtomicLong::get)
+                .description("Resync events sent to streams that fell behind, in place of the events they missed")
+                .register(registry);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.hasWork() && subscriber.sending.compareAndSet(false, true)) {
+            try {
+                subscriber.sendTask = senders.submit(() -> send(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down, or removed streams still finishing their last send have filled the queue
+                subscriber.sending.set(false);
+                remove(subscriber);
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            for (List<TaskStreamEvent> events = subscriber.buffer.drain(); !events.isEmpty() && !subscriber.closed.get();
+                 events = subscriber.buffer.drain()) {
+                for (TaskStreamEvent event : events) {
+                    if (event.type() == TaskStreamEvent.Type.RESYNC) {
+                        resyncs.incrementAndGet();
+                    }
+                    write(subscriber, SseEmitter.event().name(event.eventName()).data(event));
+                }
+                subscriber.heartbeatDue.set(false);
+                subscriber.lastSentNanos = System.nanoTime();
+            }
+            if (subscriber.heartbeatDue.getAndSet(false) && !subscriber.closed.get()) {
+                write(subscriber, SseEmitter.event().comment("heartbeat"));
+                subscriber.lastSentNanos = System.nanoTime();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone, or the stream already completed; the container completes the request
+            logger.debug("Closing task stream of user {}: {}", subscriber.userId, e.getMessage());
+            remove(subscriber);
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // Completed here rather than by evictStalled, which would wait on the emitter behind the stalled write
+        if (subscriber.evicted.get()) {
+            subscriber.emitter.complete();
+            return;
+        }
+        // Events offered after the last drain but before sending was cleared
+        schedule(subscriber);
+    }
+
+    private void write(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.writeStartedNanos = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.writeStartedNanos = 0;
+        }
+    }
+
+    // Cancelling the send interrupts its sender, which then ends the stream; the pool clears the interrupt before
+    // its next task
+    private void evictStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> streams : subscribers.values()) {
+            for (Subscriber subscriber : streams) {
+                long started = subscriber.writeStartedNanos;
+                if (started != 0 && now - started > writeTimeout.toNanos() && subscriber.evicted.compareAndSet(false, true)) {
+                    logger.debug("Evicting task stream of user {}: a write took over {}", subscriber.userId, writeTimeout);
+                    remove(subscriber);
+                    Future<?> sendTask = subscriber.sendTask;
+                    if (sendTask != null) {
+                        sendTask.cancel(true);
+                    }
+                }
+            }
+        }
+    }
+
+    private void beat() {
+        long idleSince = System.nanoTime() - heartbeat.toNanos();
+        for (Set<Subscriber> streams : subscribers.values()) {
+            for (Subscriber subscriber : streams) {
+                if (subscriber.lastSentNanos - idleSince <= 0) {
+                    subscriber.heartbeatDue.set(true);
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (userId, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+}
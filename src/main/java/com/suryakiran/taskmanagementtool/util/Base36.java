@@ -0,0 +1,26 @@
+package com.suryakiran.taskmanagementtool.util;
+
+// Fixed-width, upper-case base-36 encoding used for generated task IDs
+final class Base36 {
+
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private Base36() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    static String encode(long value, int width) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Cannot encode negative value: " + value);
+        }
+        char[] buffer = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            buffer[i] = DIGITS[(int) (value % DIGITS.length)];
+            value /= DIGITS.length;
+        }
+        if (value != 0) {
+            throw new IllegalArgumentException("Value does not fit in " + width + " base-36 digits");
+        }
+        return new String(buffer);
+    }
+}
@@ -0,0 +1,153 @@
+package com.suryakiran.taskmanagementtool.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Hands out IDs from blocks leased from a shared sequence (task.id.strategy=block).
+// IDs inside a block come from an atomic counter; the next block is leased in the background
+// once a block is partly used, so the database is hit about once per blockSize IDs.
+public class BlockIdStrategy implements TaskIdStrategy, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockIdStrategy.class);
+    static final int ENCODED_LENGTH = 10;
+
+    private final IdBlockSource source;
+    private final int blockSize;
+    private final long prefetchOffset;
+    private final ExecutorService prefetchExecutor;
+    private final AtomicReference<CompletableFuture<Block>> nextBlock = new AtomicReference<>();
+    private final ReentrantLock switchLock = new ReentrantLock();
+    private volatile Block current = Block.EXHAUSTED;
+
+    public BlockIdStrategy(IdBlockSource source, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.source = source;
+        this.blockSize = blockSize;
+        this.prefetchOffset = blockSize / 2;
+        this.prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-id-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String nextId() {
+        return Base36.encode(nextValue(), ENCODED_LENGTH);
+    }
+
+    // A batch larger than a block gets a dedicated range in one reservation; smaller batches take a
+    // contiguous slice of the current block with a single getAndAdd, continuing into the next block if needed
+    @Override
+    public List<String> nextIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        if (count > blockSize) {
+            long start = source.reserve(count);
+            for (long value = start; value < start + count; value++) {
+                ids.add(Base36.encode(value, ENCODED_LENGTH));
+            }
+            return ids;
+        }
+        while (ids.size() < count) {
+            Block block = current;
+            int wanted = count - ids.size();
+            long start = block.next.getAndAdd(wanted);
+            long end = Math.min(start + wanted, block.end);
+            if (start <= block.prefetchAt && block.prefetchAt < end) {
+                prefetch();
+            }
+            for (long value = start; value < end; value++) {
+                ids.add(Base36.encode(value, ENCODED_LENGTH));
+            }
+            if (ids.size() < count) {
+                switchBlock(block);
+            }
+        }
+        return ids;
+    }
+
+    long nextValue() {
+        while (true) {
+            Block block = current;
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                if (value == block.prefetchAt) {
+                    prefetch();
+                }
+                return value;
+            }
+            switchBlock(block);
+        }
+    }
+
+    // Starts leasing the next block in the background unless a lease is already in flight
+    public void prefetch() {
+        if (nextBlock.get() != null) {
+            return;
+        }
+        CompletableFuture<Block> future = new CompletableFuture<>();
+        if (nextBlock.compareAndSet(null, future)) {
+            prefetchExecutor.execute(() -> {
+                try {
+                    long start = source.reserve(blockSize);
+                    future.complete(new Block(start, start + blockSize, start + prefetchOffset));
+                    logger.info("Reserved task ID block starting at {}", start);
+                } catch (RuntimeException e) {
+                    logger.error("Failed to reserve task ID block: {}", e.getMessage());
+                    future.completeExceptionally(e);
+                }
+            });
+        }
+    }
+
+    private void switchBlock(Block exhausted) {
+        switchLock.lock();
+        try {
+            if (current != exhausted) {
+                return;
+            }
+            prefetch();
+            CompletableFuture<Block> future = nextBlock.get();
+            try {
+                current = future.join();
+            } catch (CompletionException e) {
+                throw new IllegalStateException("Unable to reserve a block of task IDs", e.getCause());
+            } finally {
+                nextBlock.compareAndSet(future, null);
+            }
+        } finally {
+            switchLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    private static final class Block {
+        private static final Block EXHAUSTED = new Block(0, 0, -1);
+
+        private final AtomicLong next;
+        private final long end;
+        private final long prefetchAt;
+
+        private Block(long start, long end, long prefetchAt) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+            this.prefetchAt = prefetchAt;
+        }
+    }
+}
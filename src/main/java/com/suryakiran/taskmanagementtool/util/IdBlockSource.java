@@ -0,0 +1,6 @@
+package com.suryakiran.taskmanagementtool.util;
+
+// Reserves a contiguous range of IDs and returns the first value of the range
+public interface IdBlockSource {
+    long reserve(int blockSize);
+}
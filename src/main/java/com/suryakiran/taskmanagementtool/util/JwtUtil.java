@@ -2,9 +2,11 @@ package com.suryakiran.taskmanagementtool.util;
 
 import com.suryakiran.taskmanagementtool.service.TokenBlacklistService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,15 +23,53 @@ public class JwtUtil {
     private String secret;
 
     private final TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    private static final long CLOCK_SKEW = 60000;
+    public static final long CLOCK_SKEW = 60000;
+
+    // Built on first use because the secret is field-injected; both are immutable and thread-safe
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
 
     public JwtUtil(TokenBlacklistService tokenBlacklistService) {
+        this(tokenBlacklistService, null);
+    }
+
+    @Autowired
+    public JwtUtil(TokenBlacklistService tokenBlacklistService, VerifiedTokenCache verifiedTokenCache) {
         this.tokenBlacklistService = tokenBlacklistService;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(secret.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser jwtParser = parser;
+        if (jwtParser == null) {
+            jwtParser = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .setAllowedClockSkewSeconds(CLOCK_SKEW / 1000)
+                    .build();
+            parser = jwtParser;
+        }
+        return jwtParser;
+    }
+
+    // Verifies the signature and expiry once; throws a JwtException when the token is not acceptable.
+    // A token seen before is answered from the cache until its own expiry.
+    public VerifiedToken parseToken(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        if (verifiedTokenCache == null) {
+            return new VerifiedToken(extractAllClaims(token), digest);
+        }
+        return verifiedTokenCache.get(digest, d -> new VerifiedToken(extractAllClaims(token), d));
     }
 
     public String extractUsername(String token) {
@@ -46,10 +86,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .setAllowedClockSkewSeconds(CLOCK_SKEW / 1000)
-                .build()
+        return getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -95,6 +132,12 @@ public class JwtUtil {
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token) && !tokenBlacklistService.isBlacklisted(token));
     }
 
+    public boolean validateToken(VerifiedToken verifiedToken, UserDetails userDetails) {
+        return verifiedToken.getSubject().equals(userDetails.getUsername())
+                && verifiedToken.getExpirationMillis() >= System.currentTimeMillis() - CLOCK_SKEW
+                && !tokenBlacklistService.isBlacklisted(verifiedToken.getDigest());
+    }
+
     public String refreshToken(String token) {
         if (isTokenExpired(token) || tokenBlacklistService.isBlacklisted(token)) {
             throw new IllegalArgumentException("Token is invalid or blacklisted");
@@ -0,0 +1,40 @@
+package com.suryakiran.taskmanagementtool.util;
+
+import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+
+import java.security.SecureRandom;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Original 3-character random IDs, checked against the task table on every attempt.
+// Kept for deployments that still want short IDs (task.id.strategy=random).
+public class RandomIdStrategy implements TaskIdStrategy {
+
+    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int ID_LENGTH = 3;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    // Every ID this node has issued or found taken; adding a candidate claims it, so callers need no lock
+    private final Set<String> generatedIds = ConcurrentHashMap.newKeySet();
+    private final TaskRepository taskRepository;
+
+    public RandomIdStrategy(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public String nextId() {
+        String id;
+        do {
+            id = generateRandomId();
+        } while (!generatedIds.add(id) || taskRepository.existsById(id));
+        return id;
+    }
+
+    private String generateRandomId() {
+        StringBuilder id = new StringBuilder(ID_LENGTH);
+        for (int i = 0; i < ID_LENGTH; i++) {
+            id.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
+        }
+        return id.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.suryakiran.taskmanagementtool.util;
+
+import com.suryakiran.taskmanagementtool.dto.TaskVersion;
+import com.suryakiran.taskmanagementtool.exception.PreconditionFailedException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+// Strong entity tags for a task and for a page of tasks. Both are derived from row versions alone, so a
+// conditional request can be answered from the versions without reading the tasks.
+public final class TaskETags {
+
+    private static final String ANY = "*";
+
+    private TaskETags() {
+    }
+
+    public static String forVersion(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Covers every task on the page in order, whether another page follows, and the total when it was counted
+    public static String forPage(List<TaskVersion> tasks, boolean hasNext, Long total) {
+        MessageDigest digest = sha256();
+        ByteBuffer number = ByteBuffer.allocate(Long.BYTES);
+        for (TaskVersion task : tasks) {
+            digest.update(task.id().getBytes(StandardCharsets.UTF_8));
+            digest.update(number.clear().putLong(task.version()).array());
+        }
+        digest.update((byte) (hasNext ? 1 : 0));
+        if (total != null) {
+            digest.update(number.clear().putLong(total).array());
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    // If-None-Match uses the weak comparison: a W/ prefix is ignored and "*" matches any current representation
+    public static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY) || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The version an If-Match header requires, or null when any version will do. A weak or malformed tag can
+    // never match under the strong comparison If-Match uses.
+    public static Long requiredVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not a task version
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not name a version of this task");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
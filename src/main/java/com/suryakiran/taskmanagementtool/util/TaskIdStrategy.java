@@ -0,0 +1,18 @@
+package com.suryakiran.taskmanagementtool.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Strategy used by UniqueIdGenerator to produce new task IDs
+public interface TaskIdStrategy {
+    String nextId();
+
+    // IDs for a batch of tasks; strategies backed by the database override this to reserve them in one go
+    default List<String> nextIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(nextId());
+        }
+        return ids;
+    }
+}
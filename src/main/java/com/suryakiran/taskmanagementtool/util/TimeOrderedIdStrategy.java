@@ -0,0 +1,55 @@
+package com.suryakiran.taskmanagementtool.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free, time-ordered IDs that need no database lookups.
+// Layout of the 63-bit value: 41 bits of milliseconds since EPOCH, 10 bits of node id, 12 bits of sequence.
+// The value is written as a fixed-width, 13-character base-36 string, so IDs sort in creation order
+// and can never collide with the legacy 3-character IDs.
+public class TimeOrderedIdStrategy implements TaskIdStrategy {
+
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    static final int ENCODED_LENGTH = 13;
+
+    private final long nodeBits;
+    private final Clock clock;
+    // (timestamp << SEQUENCE_BITS) | sequence of the last issued ID
+    private final AtomicLong lastState = new AtomicLong();
+
+    public TimeOrderedIdStrategy(int nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    public TimeOrderedIdStrategy(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        return Base36.encode(nextValue(), ENCODED_LENGTH);
+    }
+
+    long nextValue() {
+        while (true) {
+            long now = clock.millis() - EPOCH;
+            long previous = lastState.get();
+            // A new millisecond resets the sequence. Within the same millisecond, or if the clock
+            // moved backwards, keep counting; a sequence overflow simply carries into the next millisecond.
+            long next = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+            if (lastState.compareAndSet(previous, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.suryakiran.taskmanagementtool.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// Fixed-size SHA-256 key for a token, so caches do not hold on to the bearer strings themselves
+public final class TokenDigest {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final long h0;
+    private final long h1;
+    private final long h2;
+    private final long h3;
+
+    private TokenDigest(long h0, long h1, long h2, long h3) {
+        this.h0 = h0;
+        this.h1 = h1;
+        this.h2 = h2;
+        this.h3 = h3;
+    }
+
+    public static TokenDigest of(String token) {
+        return fromBytes(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static TokenDigest fromBytes(byte[] bytes) {
+        ByteBuffer hash = ByteBuffer.wrap(bytes);
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(32).putLong(h0).putLong(h1).putLong(h2).putLong(h3).array();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof TokenDigest other && h0 == other.h0 && h1 == other.h1 && h2 == other.h2 && h3 == other.h3;
+    }
+
+    @Override
+    public int hashCode() {
+        // The digest is already uniformly distributed
+        return (int) h0;
+    }
+}
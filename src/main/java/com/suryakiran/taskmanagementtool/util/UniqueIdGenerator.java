@@ -1,38 +1,25 @@
 package com.suryakiran.taskmanagementtool.util;
 
-import com.suryakiran.taskmanagementtool.repository.TaskRepository;
 import org.springframework.stereotype.Component;
-import java.security.SecureRandom;
-import java.util.HashSet;
-import java.util.Set;
 
+import java.util.List;
+
+// Issues task IDs using the strategy selected by task.id.strategy (see IdGeneratorConfig).
+// Task IDs are opaque strings, so IDs issued by an earlier strategy keep resolving.
 @Component
 public class UniqueIdGenerator {
 
-    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-    private static final int ID_LENGTH = 3;
-    private static final SecureRandom RANDOM = new SecureRandom();
-    private final Set<String> generatedIds = new HashSet<>();
-    private final TaskRepository taskRepository;
+    private final TaskIdStrategy strategy;
 
-    public UniqueIdGenerator(TaskRepository taskRepository) {
-        this.taskRepository = taskRepository;
+    public UniqueIdGenerator(TaskIdStrategy strategy) {
+        this.strategy = strategy;
     }
 
-    public synchronized String generateUniqueId() {
-        String id;
-        do {
-            id = generateRandomId();
-        } while (generatedIds.contains(id) || taskRepository.existsById(id));
-        generatedIds.add(id);
-        return id;
+    public String generateUniqueId() {
+        return strategy.nextId();
     }
 
-    private String generateRandomId() {
-        StringBuilder id = new StringBuilder(ID_LENGTH);
-        for (int i = 0; i < ID_LENGTH; i++) {
-            id.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
-        }
-        return id.toString();
+    public List<String> generateUniqueIds(int count) {
+        return strategy.nextIds(count);
     }
-}
\ No newline at end of file
+}
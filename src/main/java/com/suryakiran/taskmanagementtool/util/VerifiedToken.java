@@ -0,0 +1,58 @@
+package com.suryakiran.taskmanagementtool.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.List;
+
+// Claims of a token whose signature and expiry have been checked once by JwtUtil.parseToken
+public final class VerifiedToken {
+
+    private final TokenDigest digest;
+    private final String subject;
+    private final Integer userId;
+    private final List<String> roles;
+    private final long issuedAtMillis;
+    private final long expirationMillis;
+
+    VerifiedToken(Claims claims, TokenDigest digest) {
+        this.digest = digest;
+        this.subject = claims.getSubject();
+        this.userId = claims.get("userId", Integer.class);
+        List<?> roleClaim = claims.get("roles", List.class);
+        this.roles = roleClaim == null ? null : roleClaim.stream().map(String::valueOf).toList();
+        this.issuedAtMillis = claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime();
+        this.expirationMillis = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+    }
+
+    // Digest of the raw token, for revocation lookups without hashing the token again
+    public TokenDigest getDigest() {
+        return digest;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    // Null for tokens issued without a userId claim, such as refresh tokens
+    public Integer getUserId() {
+        return userId;
+    }
+
+    // Null when the token carries no roles claim
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public Date getIssuedAt() {
+        return new Date(issuedAtMillis);
+    }
+
+    public Date getExpiration() {
+        return new Date(expirationMillis);
+    }
+
+    public long getExpirationMillis() {
+        return expirationMillis;
+    }
+}
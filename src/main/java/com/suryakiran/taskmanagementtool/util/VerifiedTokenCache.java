@@ -0,0 +1,84 @@
+package com.suryakiran.taskmanagementtool.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Verified claims by token digest, so a reused access token skips signature checking and claim decoding.
+// Each entry expires at the token's own exp; revoked tokens are evicted through TokenBlacklistService.
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${security.jwt.cache.maximum-size:10000}") long maximumSize) {
+        this(maximumSize, Ticker.systemTicker());
+    }
+
+    public VerifiedTokenCache(long maximumSize, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    // Verification failures propagate and are not cached
+    public VerifiedToken get(TokenDigest digest, Function<TokenDigest, VerifiedToken> verifier) {
+        return cache.get(digest, verifier);
+    }
+
+    public void invalidate(TokenDigest digest) {
+        cache.invalidate(digest);
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    // Published as cache.gets{cache=verifiedTokens,result=hit|miss}, cache.size and cache.evictions
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "verifiedTokens");
+    }
+
+    private static final class ExpireAtTokenExpiry implements Expiry<TokenDigest, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.getExpirationMillis() - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                return 0;
+            }
+            return remainingMillis >= TimeUnit.NANOSECONDS.toMillis(Long.MAX_VALUE)
+                    ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- The task ID sequence row, so nodes leasing their first block on a fresh database lock an existing row instead
+-- of racing to insert it. Databases where a node already created it keep their value.
+-- Databases baselined at V1 never ran V1, so the table may not exist yet.
+CREATE TABLE IF NOT EXISTS id_sequence (
+    name VARCHAR(50) NOT NULL,
+    next_value BIGINT NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO id_sequence (name, next_value)
+SELECT 'task', 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM id_sequence WHERE name = 'task');
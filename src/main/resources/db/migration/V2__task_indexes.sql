@@ -0,0 +1,11 @@
+-- Composite indexes for the per-user task queries.
+-- Lookups by id (findByIdAndUser, existsByIdAndUserId) are served by the primary key.
+
+-- findByUser and keyset listing ordered by due date
+CREATE INDEX idx_task_user_due_date ON task (user_id, due_date, id);
+
+-- findByUserAndStatusAndPriority and filtered listing ordered by due date
+CREATE INDEX idx_task_user_status_priority_due_date ON task (user_id, status, priority, due_date, id);
+
+-- keyset listing ordered by title
+CREATE INDEX idx_task_user_title ON task (user_id, title, id);
@@ -0,0 +1,11 @@
+-- Revoked tokens shared by every node. seq is the change sequence each node polls to update its
+-- in-memory replica; rows are pruned once expires_at (epoch millis, the token's exp) has passed.
+CREATE TABLE revoked_token (
+    seq BIGINT NOT NULL AUTO_INCREMENT,
+    digest BINARY(32) NOT NULL,
+    expires_at BIGINT NOT NULL,
+    PRIMARY KEY (seq),
+    CONSTRAINT uk_revoked_token_digest UNIQUE (digest)
+);
+
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token (expires_at);
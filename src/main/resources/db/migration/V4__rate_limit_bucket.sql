@@ -0,0 +1,9 @@
+-- Shared token buckets for cluster-wide rate limits. Nodes lease tokens with a compare-and-swap on version.
+-- refilled_at is epoch millis up to which refill has been credited to tokens.
+CREATE TABLE rate_limit_bucket (
+    bucket_key VARCHAR(255) NOT NULL,
+    tokens BIGINT NOT NULL,
+    refilled_at BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (bucket_key)
+);
@@ -0,0 +1,8 @@
+-- Reminders sent for a task's current due date: 0 = none, 1 = due soon, 2 = overdue.
+-- Reset to 0 when the due date changes. Tasks already past due are marked as notified, so this migration does
+-- not send an overdue notice for every historical task.
+ALTER TABLE task ADD COLUMN reminder_stage TINYINT NOT NULL DEFAULT 0;
+UPDATE task SET reminder_stage = 2 WHERE due_date < CURRENT_DATE;
+
+-- Loading the reminder horizon: open tasks with reminders outstanding, by due date
+CREATE INDEX idx_task_reminder ON task (reminder_stage, status, due_date);
@@ -0,0 +1,19 @@
+-- Per-user task counts, maintained by every task write: STATUS and PRIORITY buckets are enum names, DUE buckets
+-- are due dates (yyyy-mm-dd) of tasks that are not complete. Seeded from the existing tasks.
+CREATE TABLE task_counter (
+    user_id INT NOT NULL,
+    dimension VARCHAR(16) NOT NULL,
+    bucket VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (user_id, dimension, bucket)
+);
+
+INSERT INTO task_counter (user_id, dimension, bucket, task_count)
+SELECT user_id, 'STATUS', status, COUNT(*) FROM task WHERE user_id IS NOT NULL GROUP BY user_id, status;
+
+INSERT INTO task_counter (user_id, dimension, bucket, task_count)
+SELECT user_id, 'PRIORITY', priority, COUNT(*) FROM task WHERE user_id IS NOT NULL GROUP BY user_id, priority;
+
+INSERT INTO task_counter (user_id, dimension, bucket, task_count)
+SELECT user_id, 'DUE', CAST(due_date AS CHAR(10)), COUNT(*) FROM task
+WHERE user_id IS NOT NULL AND status <> 'COMPLETE' GROUP BY user_id, due_date;
@@ -0,0 +1,3 @@
+-- Optimistic locking: incremented by every entity update of a task and checked by its UPDATE and DELETE.
+-- Also the task's entity tag for conditional requests.
+ALTER TABLE task ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
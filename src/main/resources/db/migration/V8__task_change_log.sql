@@ -0,0 +1,28 @@
+-- Delta sync (/api/tasks/changes). Each committing task write takes the next number of its owner's change sequence
+-- and stamps it on the tasks it created or updated, and on a tombstone for each task it deleted. The sequence row
+-- stays locked until the write commits, so a user's changes become visible in sequence order. Existing tasks keep 0
+-- and are delivered by the first full sync. Tombstones are pruned after a retention period; pruned_seq is the
+-- highest sequence number pruned, and watermarks at or below it can only be answered with a full sync.
+ALTER TABLE task ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+-- Changes after a watermark, in keyset order
+CREATE INDEX idx_task_user_change ON task (user_id, change_seq, id);
+
+CREATE TABLE task_sync (
+    user_id INT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    pruned_seq BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE task_tombstone (
+    task_id VARCHAR(255) NOT NULL,
+    user_id INT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    -- Epoch milliseconds
+    deleted_at BIGINT NOT NULL,
+    PRIMARY KEY (task_id)
+);
+
+CREATE INDEX idx_task_tombstone_user_change ON task_tombstone (user_id, change_seq, task_id);
+CREATE INDEX idx_task_tombstone_deleted_at ON task_tombstone (deleted_at);
@@ -0,0 +1,5 @@
+-- When each user's change sequence last moved (epoch milliseconds, by the writing node's clock), so a node can find
+-- the users changed by other nodes without reading every sequence row
+ALTER TABLE task_sync ADD COLUMN changed_at BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_task_sync_changed_at ON task_sync (changed_at);
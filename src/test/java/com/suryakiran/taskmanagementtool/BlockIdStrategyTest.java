@@ -0,0 +1,92 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.util.BlockIdStrategy;
+import com.suryakiran.taskmanagementtool.util.IdBlockSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockIdStrategyTest {
+
+    private final AtomicLong sequence = new AtomicLong(1);
+    private final AtomicInteger leases = new AtomicInteger();
+
+    private final IdBlockSource source = blockSize -> {
+        leases.incrementAndGet();
+        return sequence.getAndAdd(blockSize);
+    };
+
+    @Test
+    void testIdsAreLeasedOncePerBlock() {
+        try (BlockIdStrategy strategy = new BlockIdStrategy(source, 100)) {
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            for (int i = 0; i < 1_000; i++) {
+                String id = strategy.nextId();
+                assertEquals(10, id.length());
+                assertTrue(ids.add(id));
+            }
+            // 10 blocks consumed, plus at most one prefetched ahead
+            assertTrue(leases.get() >= 10 && leases.get() <= 11);
+        }
+    }
+
+    @Test
+    void testConcurrentGenerationIsCollisionFree() throws InterruptedException {
+        try (BlockIdStrategy strategy = new BlockIdStrategy(source, 50)) {
+            strategy.prefetch();
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(strategy.nextId());
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+            assertEquals(40_000, ids.size());
+        }
+    }
+
+    @Test
+    void testFailedLeaseIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        IdBlockSource flaky = blockSize -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return 1;
+        };
+        try (BlockIdStrategy strategy = new BlockIdStrategy(flaky, 10)) {
+            assertThrows(IllegalStateException.class, strategy::nextId);
+            assertEquals("0000000001", strategy.nextId());
+        }
+    }
+
+    @Test
+    void testBatchIdsSpanBlocksAndLargeBatchesReserveOnce() {
+        try (BlockIdStrategy strategy = new BlockIdStrategy(source, 100)) {
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            ids.addAll(strategy.nextIds(70));
+            ids.addAll(strategy.nextIds(70));
+            assertEquals(140, ids.size());
+
+            int leasesBefore = leases.get();
+            List<String> large = strategy.nextIds(5_000);
+            assertEquals(5_000, large.size());
+            assertEquals(leasesBefore + 1, leases.get());
+            large.forEach(id -> assertTrue(ids.add(id)));
+            assertTrue(ids.add(strategy.nextId()));
+        }
+    }
+}
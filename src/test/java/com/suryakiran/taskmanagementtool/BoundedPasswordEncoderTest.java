@@ -0,0 +1,89 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.exception.ServiceUnavailableException;
+import com.suryakiran.taskmanagementtool.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void testHashesOnItsPoolAndTimesEachOperation() {
+        encoder = new BoundedPasswordEncoder(5, Duration.ZERO, 4, 31, 1, 4, Duration.ofSeconds(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        String hash = encoder.encode("Secret#123");
+        assertTrue(hash.startsWith("$2a$05$"));
+        assertTrue(encoder.matches("Secret#123", hash));
+        assertFalse(encoder.matches("Wrong#123", hash));
+        // Hashes keep their own cost
+        assertTrue(encoder.matches("Older#123", new BCryptPasswordEncoder(4).encode("Older#123")));
+
+        assertEquals(1, registry.get("password.hash").tag("operation", "encode").timer().count());
+        assertEquals(3, registry.get("password.hash").tag("operation", "matches").timer().count());
+        assertEquals(3, registry.get("password.hash.queued").tag("operation", "matches").timer().count());
+        assertEquals(5, registry.get("password.hash.cost").gauge().value());
+        assertEquals(0, registry.get("password.hash.rejected").functionCounter().count());
+    }
+
+    @Test
+    void testFullQueueTurnsCallersAwayAtOnce() throws Exception {
+        // One hash running and one waiting; every hash takes far longer than submitting the rest
+        encoder = new BoundedPasswordEncoder(12, Duration.ZERO, 4, 31, 1, 1, Duration.ofSeconds(2));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> encoder.encode("Secret#123")));
+            }
+            int hashed = 0;
+            int rejected = 0;
+            for (Future<String> result : results) {
+                try {
+                    result.get();
+                    hashed++;
+                } catch (ExecutionException e) {
+                    ServiceUnavailableException unavailable = assertInstanceOf(ServiceUnavailableException.class, e.getCause());
+                    assertEquals(Duration.ofSeconds(2), unavailable.getRetryAfter());
+                    rejected++;
+                }
+            }
+            assertTrue(hashed >= 1 && rejected >= 1, hashed + " hashed, " + rejected + " rejected");
+            assertEquals(rejected, registry.get("password.hash.rejected").functionCounter().count());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCalibrationStaysWithinBounds() {
+        encoder = new BoundedPasswordEncoder(4, Duration.ZERO, 4, 31, 1, 1, Duration.ofSeconds(1));
+        assertEquals(6, BoundedPasswordEncoder.calibrate(Duration.ZERO, 6, 12));
+        assertEquals(7, BoundedPasswordEncoder.calibrate(Duration.ofDays(1), 4, 7));
+        int fast = BoundedPasswordEncoder.calibrate(Duration.ofMillis(5), 4, 20);
+        int slow = BoundedPasswordEncoder.calibrate(Duration.ofMillis(500), 4, 20);
+        assertTrue(fast <= slow, fast + " > " + slow);
+    }
+}
@@ -3,6 +3,7 @@ package com.suryakiran.taskmanagementtool;
 import com.suryakiran.taskmanagementtool.model.Role;
 import com.suryakiran.taskmanagementtool.model.User;
 import com.suryakiran.taskmanagementtool.repository.UserRepository;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
 import com.suryakiran.taskmanagementtool.service.CustomUserDetailsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,7 @@ class CustomUserDetailsServiceTest {
         role.setName("ROLE_USER");
 
         user = new User();
+        user.setId(7);
         user.setEmail("test@example.com");
         user.setPassword("password");
         user.setRoles(Collections.singleton(role));
@@ -52,6 +54,7 @@ class CustomUserDetailsServiceTest {
         assertEquals("test@example.com", userDetails.getUsername());
         assertEquals("password", userDetails.getPassword());
         assertEquals(1, userDetails.getAuthorities().size());
+        assertEquals(7, assertInstanceOf(AuthenticatedUser.class, userDetails).getId());
     }
 
     @Test
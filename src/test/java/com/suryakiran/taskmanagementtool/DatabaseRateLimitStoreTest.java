@@ -0,0 +1,89 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.filter.RateLimiterFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two nodes sharing one H2 database enforce a single cluster-wide limit, leasing tokens in batches
+class DatabaseRateLimitStoreTest {
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void testLimitIsSharedAcrossNodes() throws Exception {
+        RateLimiterFilter nodeA = rateLimiter(startNode());
+        RateLimiterFilter nodeB = rateLimiter(startNode());
+
+        int admitted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (call(i % 2 == 0 ? nodeA : nodeB).getStatus() == 200) {
+                admitted++;
+            }
+        }
+        assertEquals(10, admitted, "the capacity is shared, not multiplied by the number of nodes");
+
+        MockHttpServletResponse rejected = call(nodeA);
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+        assertEquals(Long.valueOf(1), nodes.get(0).getBean(JdbcTemplate.class)
+                .queryForObject("SELECT COUNT(*) FROM rate_limit_bucket", Long.class));
+    }
+
+    @Test
+    void testLeaseServesRequestsWithoutTheDatabase() throws Exception {
+        ConfigurableApplicationContext node = startNode();
+        RateLimiterFilter filter = rateLimiter(node);
+        JdbcTemplate jdbcTemplate = node.getBean(JdbcTemplate.class);
+
+        assertEquals(200, call(filter).getStatus());
+        long versionAfterLease = jdbcTemplate.queryForObject("SELECT version FROM rate_limit_bucket", Long.class);
+        assertEquals(200, call(filter).getStatus());
+        assertEquals(200, call(filter).getStatus());
+
+        assertEquals(versionAfterLease, jdbcTemplate.queryForObject("SELECT version FROM rate_limit_bucket", Long.class));
+        assertEquals(7L, jdbcTemplate.queryForObject("SELECT tokens FROM rate_limit_bucket", Long.class));
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        String database = "rate_limit_db_" + System.identityHashCode(this);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskmanagementtoolApplication.class)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--server.port=0",
+                        "--rate-limit.store=database",
+                        "--rate-limit.lease-size=3",
+                        "--rate-limit.limits.anonymous.capacity=10",
+                        "--rate-limit.limits.anonymous.period=PT1H");
+        nodes.add(context);
+        return context;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RateLimiterFilter rateLimiter(ConfigurableApplicationContext context) {
+        return ((FilterRegistrationBean<RateLimiterFilter>) context.getBean("customRateLimiterFilter")).getFilter();
+    }
+
+    private static MockHttpServletResponse call(RateLimiterFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/authenticate");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -10,6 +10,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.security.core.AuthenticationException;
 import com.suryakiran.taskmanagementtool.exception.TokenValidationException;
@@ -49,6 +52,19 @@ class GlobalExceptionHandlerTest {
         assertEquals("No tasks found", response.getBody().getMessage());
     }
 
+    @Test
+    void testHandleMethodArgumentNotValidException() {
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(new Object(), "taskDTO");
+        result.addError(new FieldError("taskDTO", "title", "Title is mandatory"));
+        result.addError(new FieldError("taskDTO", "description", "Description is mandatory"));
+        MethodArgumentNotValidException ex = new MethodArgumentNotValidException(null, result);
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleMethodArgumentNotValidException(ex, webRequest);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Validation failed: description: Description is mandatory; title: Title is mandatory",
+                response.getBody().getMessage());
+    }
+
     @Test
     void testHandleGlobalException() {
         Exception ex = new Exception("An unexpected error occurred");
@@ -0,0 +1,80 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.search.InvertedIndex;
+import com.suryakiran.taskmanagementtool.search.TextTokenizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void testTokenizerLowerCasesWordsAndDropsPunctuation() {
+        assertEquals(List.of("fix", "login", "bug", "v2", "été"), TextTokenizer.tokenize("Fix LOGIN-bug (v2), été!"));
+        assertEquals(List.of(), TextTokenizer.tokenize(" -- "));
+    }
+
+    @Test
+    void testAllTermsMustMatchAndTitleMatchesRankFirst() {
+        index.put(1, "A", "Quarterly report", "Collect the numbers for finance");
+        index.put(1, "B", "Team lunch", "Book a table near the report archive and send a quarterly reminder");
+        index.put(1, "C", "Report bug", "Login page crashes");
+
+        assertEquals(List.of("A", "B"), index.search(1, "quarterly report", 10));
+        assertEquals(List.of("C"), index.search(1, "report LOGIN", 10));
+        assertEquals(List.of(), index.search(1, "quarterly login", 10));
+    }
+
+    @Test
+    void testPrefixesMatchButWholeWordsRankHigher() {
+        index.put(1, "A", "Deploy", "Deployment checklist");
+        index.put(1, "B", "Deploying", "Notes");
+        index.put(1, "C", "Unrelated", "Nothing here");
+
+        assertEquals(List.of("A", "B"), index.search(1, "deploy", 10));
+        assertEquals(List.of("A", "B"), index.search(1, "dep", 10));
+        assertEquals(List.of("A"), index.search(1, "dep", 1));
+    }
+
+    @Test
+    void testPartitionsAreIsolatedPerUser() {
+        index.put(1, "A", "Secret plan", "");
+        index.put(2, "B", "Public plan", "");
+
+        assertEquals(List.of("A"), index.search(1, "plan", 10));
+        assertEquals(List.of("B"), index.search(2, "plan", 10));
+        assertEquals(List.of(), index.search(3, "plan", 10));
+    }
+
+    @Test
+    void testUpdatesReplaceAndRemovalsDropDocuments() {
+        index.put(1, "A", "Old title", "");
+        index.put(1, "A", "New title", "");
+        index.put(1, "B", "Old habits", "");
+        index.remove(1, "B");
+
+        assertEquals(List.of(), index.search(1, "old", 10));
+        assertEquals(List.of("A"), index.search(1, "new", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testCompactionKeepsResultsIntact() {
+        List<String> rounds = List.of("alpha", "beta", "gamma", "delta", "epsilon");
+        for (String round : rounds) {
+            for (int i = 0; i < 1000; i++) {
+                index.put(1, "T" + i, "Task " + i + (i % 100 == 0 ? " milestone" : ""), round);
+            }
+        }
+
+        assertEquals(1000, index.size());
+        assertEquals(10, index.search(1, "milestone", 100).size());
+        assertEquals(List.of("T500"), index.search(1, "task 500", 1));
+        assertEquals(List.of(), index.search(1, "gamma", 10));
+        assertEquals(1000, index.search(1, "epsilon", 1000).size());
+    }
+}
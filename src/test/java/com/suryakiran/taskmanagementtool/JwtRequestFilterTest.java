@@ -0,0 +1,140 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.filter.JwtRequestFilter;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import com.suryakiran.taskmanagementtool.service.CustomUserDetailsService;
+import com.suryakiran.taskmanagementtool.service.TokenBlacklistService;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import com.suryakiran.taskmanagementtool.util.VerifiedTokenCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtRequestFilterTest {
+
+    private final TokenBlacklistService tokenBlacklistService = new TokenBlacklistService(new VerifiedTokenCache(100));
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwtUtil = new JwtUtil(tokenBlacklistService);
+        Field secretField = JwtUtil.class.getDeclaredField("secret");
+        secretField.setAccessible(true);
+        secretField.set(jwtUtil, "mysecretkeymysecretkeymysecretkeymysecretkey");
+        token = jwtUtil.generateToken(storedUser(7), 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testStatelessModeRevalidatesOnlyOncePerInterval() throws Exception {
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(storedUser(7));
+        JwtRequestFilter filter = filter(true, Duration.ofMinutes(5));
+
+        Authentication first = authenticate(filter);
+        Authentication second = authenticate(filter);
+
+        assertEquals(7, assertInstanceOf(AuthenticatedUser.class, first.getPrincipal()).getId());
+        assertEquals(7, assertInstanceOf(AuthenticatedUser.class, second.getPrincipal()).getId());
+        assertTrue(second.getAuthorities().contains(new SimpleGrantedAuthority("USER")));
+        verify(userDetailsService, times(1)).loadUserByUsername("user@example.com");
+    }
+
+    @Test
+    void testStatelessModeRevalidatesAfterRevocation() throws Exception {
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(storedUser(7));
+        JwtRequestFilter filter = filter(true, Duration.ofMinutes(5));
+
+        authenticate(filter);
+        tokenBlacklistService.blacklistToken("some-other-token", System.currentTimeMillis() + 60_000);
+        assertNotNull(authenticate(filter));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("user@example.com");
+    }
+
+    @Test
+    void testStatelessModeRejectsRevokedToken() throws Exception {
+        JwtRequestFilter filter = filter(true, Duration.ofMinutes(5));
+        tokenBlacklistService.blacklistToken(token, jwtUtil.parseToken(token).getExpirationMillis());
+
+        assertNull(authenticate(filter));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testStatelessModeRejectsDeletedOrChangedUser() throws Exception {
+        JwtRequestFilter filter = filter(true, Duration.ZERO);
+
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(storedUser(8));
+        assertNull(authenticate(filter));
+
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenThrow(new UsernameNotFoundException("gone"));
+        assertNull(authenticate(filter));
+    }
+
+    @Test
+    void testStatelessModeRevalidatesATokenGrantingMoreRoles() throws Exception {
+        String adminToken = jwtUtil.generateToken(new AuthenticatedUser(7, "user@example.com", "hash",
+                List.of(new SimpleGrantedAuthority("USER"), new SimpleGrantedAuthority("ADMIN"))), 7);
+        // ADMIN has been taken away since the token was issued
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(storedUser(7));
+        JwtRequestFilter filter = filter(true, Duration.ofMinutes(5));
+
+        assertNotNull(authenticate(filter));
+        // A fresh check of a USER token does not vouch for the ADMIN one
+        assertNull(authenticate(filter, adminToken));
+        assertNotNull(authenticate(filter));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("user@example.com");
+    }
+
+    @Test
+    void testDefaultModeLoadsUserOnEveryRequest() throws Exception {
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(storedUser(7));
+        JwtRequestFilter filter = filter(false, Duration.ofMinutes(5));
+
+        authenticate(filter);
+        assertNotNull(authenticate(filter));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("user@example.com");
+    }
+
+    private JwtRequestFilter filter(boolean stateless, Duration revalidateInterval) {
+        return new JwtRequestFilter(userDetailsService, jwtUtil, tokenBlacklistService, stateless, revalidateInterval);
+    }
+
+    private Authentication authenticate(JwtRequestFilter filter) throws Exception {
+        return authenticate(filter, token);
+    }
+
+    private Authentication authenticate(JwtRequestFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static AuthenticatedUser storedUser(int id) {
+        return new AuthenticatedUser(id, "user@example.com", "hash", List.of(new SimpleGrantedAuthority("USER")));
+    }
+}
@@ -0,0 +1,96 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.config.RateLimitProperties;
+import com.suryakiran.taskmanagementtool.filter.RateLimiterFilter;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testNoisyClientDoesNotLockOutOthers() throws Exception {
+        RateLimiterFilter filter = new RateLimiterFilter(properties(RateLimitProperties.KeyType.IP, 2));
+
+        assertEquals(200, call(filter, "10.0.0.1").getStatus());
+        assertEquals(200, call(filter, "10.0.0.1").getStatus());
+        MockHttpServletResponse limited = call(filter, "10.0.0.1");
+        MockHttpServletResponse other = call(filter, "10.0.0.2");
+
+        assertEquals(429, limited.getStatus());
+        assertEquals("0", limited.getHeader("RateLimit-Remaining"));
+        assertNotNull(limited.getHeader("Retry-After"));
+        assertEquals(200, other.getStatus());
+        assertEquals("2", other.getHeader("RateLimit-Limit"));
+        assertEquals("1", other.getHeader("RateLimit-Remaining"));
+        assertEquals("2;w=60", other.getHeader("RateLimit-Policy"));
+    }
+
+    @Test
+    void testUserKeyAppliesRoleLimit() throws Exception {
+        RateLimitProperties properties = properties(RateLimitProperties.KeyType.USER, 1);
+        RateLimitProperties.Limit adminLimit = new RateLimitProperties.Limit();
+        adminLimit.setCapacity(5);
+        properties.getLimits().put("ROLE_ADMIN", adminLimit);
+        RateLimiterFilter filter = new RateLimiterFilter(properties);
+
+        authenticate(1, "USER");
+        assertEquals(200, call(filter, "10.0.0.1").getStatus());
+        assertEquals(429, call(filter, "10.0.0.1").getStatus());
+
+        // Same address, different user: its own bucket with the admin limit
+        authenticate(2, "ROLE_ADMIN");
+        MockHttpServletResponse admin = call(filter, "10.0.0.1");
+        assertEquals(200, admin.getStatus());
+        assertEquals("5", admin.getHeader("RateLimit-Limit"));
+        assertEquals("4", admin.getHeader("RateLimit-Remaining"));
+    }
+
+    @Test
+    void testRouteKeySharesBucketAcrossClients() throws Exception {
+        RateLimiterFilter filter = new RateLimiterFilter(properties(RateLimitProperties.KeyType.ROUTE, 1));
+
+        assertEquals(200, call(filter, "10.0.0.1").getStatus());
+        assertEquals(429, call(filter, "10.0.0.2").getStatus());
+    }
+
+    private static RateLimitProperties properties(RateLimitProperties.KeyType key, long capacity) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setKey(key);
+        for (RateLimitProperties.Limit limit : properties.getLimits().values()) {
+            limit.setCapacity(capacity);
+            limit.setPeriod(Duration.ofMinutes(1));
+        }
+        return properties;
+    }
+
+    private static void authenticate(int id, String role) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
+        AuthenticatedUser principal = new AuthenticatedUser(id, "user" + id + "@example.com", "", authorities);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
+    private static MockHttpServletResponse call(RateLimiterFilter filter, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/authenticate");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
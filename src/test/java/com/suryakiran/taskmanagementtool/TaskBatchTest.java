@@ -0,0 +1,116 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Bulk endpoints against H2: statements are sent in JDBC batches and every item gets its own result
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskBatchTest {
+
+    private static final int TASKS = 120;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private int userId;
+    private int otherUserId;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Batch", "batch@example.com");
+        otherUserId = insertUser(jdbcTemplate, "Batch", "other-batch@example.com");
+        authentication = authentication(userId, "batch@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id IN (?, ?)", userId, otherUserId);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", userId, otherUserId);
+    }
+
+    @Test
+    void testCreateSendsInsertsInBatches() {
+        List<TaskDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(task(null, "Task " + i));
+        }
+        tasks.add(5, task(null, ""));
+        Statistics statistics = statistics();
+
+        List<TaskBatchResult> results = taskService.createTasks(tasks, authentication);
+
+        // One prepared statement per JDBC batch instead of a SELECT and an INSERT per task
+        assertTrue(statistics.getPrepareStatementCount() <= 5, "statements: " + statistics.getPrepareStatementCount());
+        assertEquals(TASKS + 1, results.size());
+        assertEquals(TaskBatchResult.Status.INVALID, results.get(5).getStatus());
+        assertEquals(List.of("Title is mandatory"), results.get(5).getErrors());
+        assertEquals(TASKS, results.stream().filter(r -> r.getStatus() == TaskBatchResult.Status.CREATED).count());
+        assertEquals(TASKS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE user_id = ?", Integer.class, userId));
+        assertEquals(TASKS, results.stream().map(TaskBatchResult::getId).filter(id -> id != null).distinct().count());
+    }
+
+    @Test
+    void testUpdateAndDeleteOnlyTouchOwnedTasks() {
+        jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date) VALUES ('OTHER', 'Theirs', 'x', ?, 'TO_DO', 'LOW', ?)",
+                otherUserId, Date.valueOf(DUE_DATE));
+        List<TaskDTO> created = new ArrayList<>();
+        for (TaskBatchResult result : taskService.createTasks(List.of(task(null, "One"), task(null, "Two")), authentication)) {
+            created.add(task(result.getId(), "Renamed"));
+        }
+        created.add(task("OTHER", "Stolen"));
+        Statistics statistics = statistics();
+
+        List<TaskBatchResult> updated = taskService.updateTasks(created, authentication);
+
+        assertEquals(List.of(TaskBatchResult.Status.UPDATED, TaskBatchResult.Status.UPDATED, TaskBatchResult.Status.NOT_FOUND),
+                updated.stream().map(TaskBatchResult::getStatus).toList());
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE title = 'Renamed'", Integer.class));
+        assertEquals("Theirs", jdbcTemplate.queryForObject("SELECT title FROM task WHERE id = 'OTHER'", String.class));
+
+        List<TaskBatchResult> deleted = taskService.deleteTasks(List.of(created.get(0).getId(), "OTHER", "MISSING"), authentication);
+
+        assertEquals(List.of(TaskBatchResult.Status.DELETED, TaskBatchResult.Status.NOT_FOUND, TaskBatchResult.Status.NOT_FOUND),
+                deleted.stream().map(TaskBatchResult::getStatus).toList());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE user_id = ?", Integer.class, userId));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE id = 'OTHER'", Integer.class));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static TaskDTO task(String id, String title) {
+        TaskDTO taskDTO = TestFixtures.task(title, "Imported");
+        taskDTO.setId(id);
+        return taskDTO;
+    }
+}
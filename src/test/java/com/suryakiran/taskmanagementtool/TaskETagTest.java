@@ -0,0 +1,189 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Conditional requests: version ETags on tasks and pages, 304 for unchanged polls and 412 for stale writes
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskETagTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int userId;
+    private Authentication authentication;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Etag", "etag@example.com");
+        grantUserRole(jdbcTemplate, userId);
+        AuthenticatedUser principal = principal(userId, "etag@example.com");
+        authentication = authentication(principal);
+        token = jwtUtil.generateToken(principal, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM task_counter WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM user_roles WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void testTaskVersionAnswersPollsAndGuardsWrites() throws Exception {
+        String id = taskService.createTask(task("Original"), authentication).getId();
+
+        mockMvc.perform(authorized(get("/api/tasks/" + id)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+        mockMvc.perform(authorized(get("/api/tasks/" + id)).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(update(id, "Renamed").header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        // A second writer still holding version 0 is turned away instead of overwriting the first
+        mockMvc.perform(update(id, "Lost update").header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(update(id, "Lost update").header(HttpHeaders.IF_MATCH, "W/\"1\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(authorized(get("/api/tasks/" + id)).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        assertEquals("Renamed", taskService.getTaskById(id, authentication).orElseThrow().getTitle());
+
+        mockMvc.perform(authorized(delete("/api/tasks/" + id)).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(authorized(delete("/api/tasks/" + id)).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void testPageTagsFollowTheTasksOnThePage() throws Exception {
+        String first = taskService.createTask(task("A"), authentication).getId();
+        taskService.createTask(task("B"), authentication);
+        String third = taskService.createTask(task("C"), authentication).getId();
+
+        String offsetTag = tagOf(authorized(get("/api/tasks").param("size", "2").param("sort", "title")));
+        String cursorTag = tagOf(authorized(get("/api/tasks").param("cursor", "").param("size", "2")
+                .param("sortBy", "title").param("count", "true")));
+        assertNotEquals(offsetTag, cursorTag, "the cursor page also covers the next token and the count");
+        assertNotModified(get("/api/tasks").param("size", "2").param("sort", "title"), offsetTag);
+        assertNotModified(get("/api/tasks").param("cursor", "").param("size", "2").param("sortBy", "title").param("count", "true"), cursorTag);
+
+        // A task past the end of the page changes only the count
+        taskService.deleteTask(third, authentication);
+        assertNotModified(get("/api/tasks").param("size", "2").param("sort", "title"), offsetTag);
+        String countedTag = tagOf(authorized(get("/api/tasks").param("cursor", "").param("size", "2")
+                .param("sortBy", "title").param("count", "true")).header(HttpHeaders.IF_NONE_MATCH, cursorTag));
+        assertNotEquals(cursorTag, countedTag);
+
+        taskService.updateTask(first, task("A, edited"), authentication);
+        String editedTag = tagOf(authorized(get("/api/tasks").param("size", "2").param("sort", "title"))
+                .header(HttpHeaders.IF_NONE_MATCH, offsetTag));
+        assertNotEquals(offsetTag, editedTag);
+        assertNotModified(get("/api/tasks/filter").param("status", "TO_DO").param("size", "2").param("sort", "title"), editedTag);
+    }
+
+    @Test
+    void testUpdateOfAChangedTaskFailsInsteadOfOverwriting() {
+        String id = taskService.createTask(task("Read"), authentication).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.findById(id).orElseThrow();
+            // Committed by someone else after this transaction read the task
+            jdbcTemplate.update("UPDATE task SET version = version + 1 WHERE id = ?", id);
+            taskService.updateTask(id, task("Overwrite"), authentication);
+        }));
+        assertEquals("Read", taskService.getTaskById(id, authentication).orElseThrow().getTitle());
+    }
+
+    @Test
+    void testInvalidTaskBodyIsABadRequest() throws Exception {
+        mockMvc.perform(authorized(post("/api/tasks")).contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("title: Title is mandatory")));
+        String id = taskService.createTask(task("Valid"), authentication).getId();
+        mockMvc.perform(update(id, ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void assertNotModified(MockHttpServletRequestBuilder request, String tag) throws Exception {
+        mockMvc.perform(authorized(request).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, tag));
+    }
+
+    private String tagOf(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private MockHttpServletRequestBuilder update(String id, String title) {
+        return authorized(put("/api/tasks/" + id))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"" + title + "\",\"description\":\"Versioned\",\"status\":\"To-Do\","
+                        + "\"priority\":\"High\",\"dueDate\":\"2030-01-01\"}");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private static TaskDTO task(String title) {
+        return TestFixtures.task(title, "Versioned");
+    }
+}
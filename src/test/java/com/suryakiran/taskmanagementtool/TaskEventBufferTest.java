@@ -0,0 +1,55 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.stream.TaskEventBuffer;
+import com.suryakiran.taskmanagementtool.stream.TaskStreamEvent;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBufferTest {
+
+    @Test
+    void testChangesToOneTaskAreMerged() {
+        TaskEventBuffer buffer = new TaskEventBuffer(10);
+        buffer.offer(new TaskChangeEvent(1, "a", null, snapshot("A1")));
+        buffer.offer(new TaskChangeEvent(1, "a", snapshot("A1"), snapshot("A2")));
+        buffer.offer(new TaskChangeEvent(1, "b", snapshot("B1"), snapshot("B2")));
+        buffer.offer(new TaskChangeEvent(1, "b", snapshot("B2"), snapshot("B3")));
+        buffer.offer(new TaskChangeEvent(1, "c", snapshot("C1"), snapshot("C2")));
+        buffer.offer(new TaskChangeEvent(1, "c", snapshot("C2"), null));
+        // Created and deleted before the subscriber heard of it
+        buffer.offer(new TaskChangeEvent(1, "d", null, snapshot("D1")));
+        buffer.offer(new TaskChangeEvent(1, "d", snapshot("D1"), null));
+
+        List<TaskStreamEvent> events = buffer.drain();
+        assertEquals(List.of("created a A2", "updated b B3", "deleted c null"),
+                events.stream().map(event -> event.eventName() + " " + event.id() + " " + event.title()).toList());
+        assertTrue(buffer.isEmpty());
+        assertEquals(List.of(), buffer.drain());
+    }
+
+    @Test
+    void testOverflowIsReplacedByOneResync() {
+        TaskEventBuffer buffer = new TaskEventBuffer(2);
+        buffer.offer(new TaskChangeEvent(1, "a", null, snapshot("A")));
+        buffer.offer(new TaskChangeEvent(1, "b", null, snapshot("B")));
+        // Another change to a pending task still fits
+        buffer.offer(new TaskChangeEvent(1, "b", snapshot("B"), snapshot("B2")));
+        buffer.offer(new TaskChangeEvent(1, "c", null, snapshot("C")));
+        buffer.offer(new TaskChangeEvent(1, "d", null, snapshot("D")));
+
+        assertEquals(List.of(TaskStreamEvent.Type.RESYNC), buffer.drain().stream().map(TaskStreamEvent::type).toList());
+        buffer.offer(new TaskChangeEvent(1, "e", null, snapshot("E")));
+        assertEquals(List.of("e"), buffer.drain().stream().map(TaskStreamEvent::id).toList());
+    }
+
+    private static TaskChangeEvent.Snapshot snapshot(String title) {
+        return new TaskChangeEvent.Snapshot(title, "x", Status.TO_DO, Priority.LOW, Date.valueOf("2030-01-01"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import com.suryakiran.taskmanagementtool.service.TaskExportFormat;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskExportTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int userId;
+    private int otherUserId;
+    private AuthenticatedUser principal;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Export", "export@example.com");
+        otherUserId = insertUser(jdbcTemplate, "Export", "other-export@example.com");
+        principal = principal(userId, "export@example.com");
+        insertTask("E1", "Plain", "Nothing special", userId);
+        insertTask("E2", "Quotes \"and\", commas", "Line one\nline two", userId);
+        insertTask("E3", "Not mine", "x", otherUserId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id IN (?, ?)", userId, otherUserId);
+        jdbcTemplate.update("DELETE FROM user_roles WHERE user_id IN (?, ?)", userId, otherUserId);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", userId, otherUserId);
+    }
+
+    @Test
+    void testCsvExportQuotesFieldsAndOnlyIncludesOwnTasks() throws Exception {
+        String csv = export(TaskExportFormat.CSV);
+
+        assertEquals("id,title,description,status,priority,dueDate\r\n"
+                + "E1,Plain,Nothing special,To-Do,High,2030-01-01\r\n"
+                + "E2,\"Quotes \"\"and\"\", commas\",\"Line one\nline two\",To-Do,High,2030-01-01\r\n", csv);
+    }
+
+    @Test
+    void testNdjsonExportWritesOneObjectPerLine() throws Exception {
+        String ndjson = export(TaskExportFormat.NDJSON);
+
+        assertEquals("{\"id\":\"E1\",\"title\":\"Plain\",\"description\":\"Nothing special\",\"status\":\"To-Do\",\"priority\":\"High\",\"dueDate\":\"2030-01-01\"}\n"
+                + "{\"id\":\"E2\",\"title\":\"Quotes \\\"and\\\", commas\",\"description\":\"Line one\\nline two\",\"status\":\"To-Do\",\"priority\":\"High\",\"dueDate\":\"2030-01-01\"}\n",
+                ndjson);
+    }
+
+    // The body is written after the controller returns, on an async dispatch that must pass the security chain
+    @Test
+    void testExportEndpointStreamsAsynchronously() throws Exception {
+        grantUserRole(jdbcTemplate, userId);
+        String token = jwtUtil.generateToken(principal, userId);
+
+        MvcResult started = mockMvc.perform(get("/api/tasks/export").param("format", "csv")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string(startsWith("id,title,description,status,priority,dueDate\r\nE1,")));
+    }
+
+    @Test
+    void testUnknownFormatIsRejected() throws Exception {
+        String token = jwtUtil.generateToken(principal, userId);
+        grantUserRole(jdbcTemplate, userId);
+
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(TaskExportFormat format) throws Exception {
+        Authentication authentication = authentication(principal);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskService.exportTasks(format, out, authentication);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void insertTask(String id, String title, String description, int ownerId) {
+        jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date) VALUES (?, ?, ?, ?, 'TO_DO', 'HIGH', ?)",
+                id, title, description, ownerId, Date.valueOf(LocalDate.of(2030, 1, 1)));
+    }
+}
@@ -0,0 +1,135 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskImportResult;
+import com.suryakiran.taskmanagementtool.service.TaskExportFormat;
+import com.suryakiran.taskmanagementtool.service.TaskImportService;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Small batches so that a few hundred records go through several transactions and the bounded queue
+@SpringBootTest(properties = {"task.import.batch-size=50", "task.import.max-record-length=1000"})
+class TaskImportTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int userId;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Import", "import@example.com");
+        authentication = authentication(userId, "import@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void testCsvImportReportsBadRowsWithoutRollingBackTheRest() throws Exception {
+        StringBuilder csv = new StringBuilder("priority,title,description,status,dueDate\r\n");
+        for (int i = 1; i <= 300; i++) {
+            String description = switch (i) {
+                // Passes TaskDTO validation but is too long for the column, so only the database rejects it
+                case 120 -> "x".repeat(300);
+                case 7 -> "\"Spans\nlines, with \"\"quotes\"\"\"";
+                default -> "Row " + i;
+            };
+            String status = i == 42 ? "Someday" : "To-Do";
+            String title = i == 43 ? "" : "Task " + i;
+            csv.append("High,").append(title).append(',').append(description).append(',').append(status).append(",2030-01-01\r\n");
+        }
+        csv.append("\r\n");
+
+        TaskImportResult result = importTasks(TaskExportFormat.CSV, csv.toString());
+
+        assertEquals(300, result.getRecords());
+        assertEquals(297, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(42L, 43L, 120L), result.getErrors().stream().map(TaskImportResult.RowError::getRecord).toList());
+        assertEquals(List.of("Invalid status: Someday"), result.getErrors().get(0).getErrors());
+        assertEquals(List.of("Title is mandatory"), result.getErrors().get(1).getErrors());
+        assertEquals(297, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE user_id = ?", Integer.class, userId));
+        assertEquals("Spans\nlines, with \"quotes\"",
+                jdbcTemplate.queryForObject("SELECT description FROM task WHERE title = 'Task 7'", String.class));
+    }
+
+    @Test
+    void testNdjsonExportCanBeImportedAgain() throws Exception {
+        jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date) VALUES ('N1', 'Round trip', 'Line one\nline two', ?, 'IN_PROGRESS', 'LOW', DATE '2030-02-03')", userId);
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        taskService.exportTasks(TaskExportFormat.NDJSON, exported, authentication);
+
+        TaskImportResult result = importTasks(TaskExportFormat.NDJSON,
+                exported.toString(StandardCharsets.UTF_8) + "\nnot json\n[1]\n");
+
+        assertEquals(3, result.getRecords());
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(2L, 3L), result.getErrors().stream().map(TaskImportResult.RowError::getRecord).toList());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task WHERE user_id = ? AND title = 'Round trip' AND description = 'Line one\nline two' "
+                        + "AND status = 'IN_PROGRESS' AND priority = 'LOW' AND due_date = DATE '2030-02-03'", Integer.class, userId));
+    }
+
+    @Test
+    void testUnterminatedQuoteIsReportedAsOneRecord() throws Exception {
+        TaskImportResult result = importTasks(TaskExportFormat.CSV,
+                "title,description,status,priority,dueDate\nGood,Fine,To-Do,Low,2030-01-01\nBad,\"never closed,To-Do,Low,2030-01-01\n");
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(List.of("Unterminated quoted field"), result.getErrors().get(0).getErrors());
+    }
+
+    @Test
+    void testOverlongRecordIsSkippedToTheNextLine() throws Exception {
+        StringBuilder csv = new StringBuilder("title,description,status,priority,dueDate\n");
+        csv.append("Bad,\"never closed,To-Do,Low,2030-01-01\n");
+        for (int i = 1; i <= 200; i++) {
+            csv.append("Task ").append(i).append(",Row ").append(i).append(",To-Do,Low,2030-01-01\n");
+        }
+
+        TaskImportResult result = importTasks(TaskExportFormat.CSV, csv.toString());
+
+        // The open quote swallows rows up to the limit; everything after them is read as usual
+        assertEquals(1, result.getFailed());
+        assertEquals(1L, result.getErrors().get(0).getRecord());
+        assertEquals(List.of("Record longer than 1000 characters"), result.getErrors().get(0).getErrors());
+        assertEquals(result.getRecords() - 1, result.getImported());
+        assertTrue(result.getImported() >= 170, result.getImported() + " imported");
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE user_id = ? AND title = 'Task 200'", Integer.class, userId));
+
+        result = importTasks(TaskExportFormat.NDJSON, "x".repeat(5000) + "\n{\"title\":\"After\",\"description\":\"Fine\",\"status\":\"To-Do\","
+                + "\"priority\":\"Low\",\"dueDate\":\"2030-01-01\"}\n" + "y".repeat(5000));
+        assertEquals(3, result.getRecords());
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(1L, 3L), result.getErrors().stream().map(TaskImportResult.RowError::getRecord).toList());
+    }
+
+    private TaskImportResult importTasks(TaskExportFormat format, String body) throws Exception {
+        return taskImportService.importTasks(format, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), authentication);
+    }
+}
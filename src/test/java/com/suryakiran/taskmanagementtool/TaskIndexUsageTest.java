@@ -0,0 +1,130 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.repository.TaskCursor;
+import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import com.suryakiran.taskmanagementtool.repository.TaskSortKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the hot task queries through EXPLAIN on H2 (MySQL mode) against the migrated schema
+@SpringBootTest
+class TaskIndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private int userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Index", "index@example.com");
+        LocalDate start = DUE_DATE;
+        for (int i = 0; i < 30; i++) {
+            jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    String.format("T%02d", i), "Task " + i, "Description", userId,
+                    i % 2 == 0 ? "TO_DO" : "COMPLETE", "HIGH", Date.valueOf(start.plusDays(i / 3)));
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    // H2 does not weigh ORDER BY when it picks an index, so the plain "WHERE user_id = ?" first page may
+    // still be planned on the foreign key index. Every following page carries a range on the sort key.
+    @Test
+    void testKeysetSeekByDueDateUsesIndex() {
+        String plan = explain("SELECT * FROM task WHERE user_id = " + userId
+                + " AND due_date >= DATE '2030-01-05' AND (due_date > DATE '2030-01-05' OR id > 'T12') ORDER BY due_date, id LIMIT 20");
+        assertTrue(plan.contains("idx_task_user_due_date"), plan);
+    }
+
+    @Test
+    void testKeysetSeekByTitleUsesIndex() {
+        String plan = explain("SELECT * FROM task WHERE user_id = " + userId
+                + " AND title >= 'Task 12' AND (title > 'Task 12' OR id > 'T12') ORDER BY title, id LIMIT 20");
+        assertTrue(plan.contains("idx_task_user_title"), plan);
+    }
+
+    @Test
+    void testFindByUserAndStatusAndPriorityUsesIndex() {
+        String plan = explain("SELECT * FROM task WHERE user_id = " + userId
+                + " AND status = 'TO_DO' AND priority = 'HIGH' ORDER BY due_date, id LIMIT 20");
+        assertTrue(plan.contains("idx_task_user_status_priority_due_date"), plan);
+    }
+
+    @Test
+    void testFindByIdAndUserUsesPrimaryKey() {
+        String plan = explain("SELECT * FROM task WHERE id = 'T01' AND user_id = " + userId);
+        assertTrue(plan.toLowerCase().contains("primary_key"), plan);
+    }
+
+    @Test
+    void testPendingRemindersUseIndex() {
+        String plan = explain("SELECT id, user_id, due_date, reminder_stage FROM task WHERE reminder_stage IN (0, 1)"
+                + " AND status IN ('TO_DO', 'IN_PROGRESS') AND due_date > DATE '2030-01-02' AND due_date <= DATE '2030-01-05'");
+        assertTrue(plan.contains("idx_task_reminder"), plan);
+        // The index conditions reach due_date, past both leading columns
+        String indexConditions = plan.substring(plan.indexOf("idx_task_reminder"), plan.indexOf("*/"));
+        assertTrue(indexConditions.contains("due_date"), plan);
+    }
+
+    @Test
+    void testKeysetPagesCoverEveryTaskOnce() {
+        List<TaskDTO> first = taskRepository.findPageAfter(userId, null, null, TaskSortKey.DUE_DATE, Sort.Direction.ASC, null, 20);
+        TaskDTO last = first.get(first.size() - 1);
+        TaskCursor cursor = new TaskCursor(TaskSortKey.DUE_DATE, Sort.Direction.ASC, last.getDueDate().toString(), last.getId());
+        List<TaskDTO> second = taskRepository.findPageAfter(userId, null, null, TaskSortKey.DUE_DATE, Sort.Direction.ASC, cursor, 20);
+
+        assertEquals(20, first.size());
+        assertEquals(10, second.size());
+        assertEquals("T20", second.get(0).getId());
+        assertEquals("T29", second.get(9).getId());
+
+        TaskDTO title = first.get(4);
+        TaskCursor byTitle = new TaskCursor(TaskSortKey.TITLE, Sort.Direction.DESC, title.getTitle(), title.getId());
+        List<TaskDTO> descending = taskRepository.findPageAfter(userId, null, null, TaskSortKey.TITLE, Sort.Direction.DESC, byTitle, 100);
+        assertTrue(descending.stream().allMatch(t -> t.getTitle().compareTo(title.getTitle()) < 0));
+        assertEquals(30, taskRepository.countMatching(userId, null, null));
+        assertEquals("index@example.com", second.get(0).getCreator().getEmail());
+    }
+
+    @Test
+    void testProjectionQueriesSelectTaskAndCreatorInOneStatement() {
+        Page<TaskDTO> page = taskRepository.findDtosByUserIdAndStatusAndPriority(userId, Status.TO_DO, null,
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "dueDate")));
+
+        assertEquals(15, page.getTotalElements());
+        assertEquals(5, page.getContent().size());
+        assertTrue(page.getContent().stream().allMatch(t -> t.getStatus() == Status.TO_DO));
+        assertEquals("Index", page.getContent().get(0).getCreatorFirstName());
+        assertTrue(taskRepository.findDtoByIdAndUserId("T01", userId).isPresent());
+        assertTrue(taskRepository.findDtoByIdAndUserId("T01", userId + 1).isEmpty());
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
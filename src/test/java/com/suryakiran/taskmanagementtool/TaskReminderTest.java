@@ -0,0 +1,142 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.reminder.ReminderSink;
+import com.suryakiran.taskmanagementtool.reminder.TaskReminder;
+import com.suryakiran.taskmanagementtool.reminder.TaskReminderScheduler;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Reminders follow task writes, survive a restart through task.reminder_stage and are sent once per cluster
+class TaskReminderTest {
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+    private final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void testDueSoonThenOverdueForOpenTasks() throws Exception {
+        ConfigurableApplicationContext node = startNode();
+        TaskService taskService = node.getBean(TaskService.class);
+        TaskReminderScheduler scheduler = node.getBean(TaskReminderScheduler.class);
+        BlockingQueue<TaskReminder> sent = node.getBean(RecordingSink.class).reminders;
+        Authentication authentication = createUser(node);
+
+        TaskDTO report = taskService.createTask(task("Quarterly report", today.plusDays(1)), authentication);
+        TaskDTO completed = taskService.createTask(task("Book venue", today.plusDays(1)), authentication);
+        TaskDTO completedCopy = task("Book venue", today.plusDays(1));
+        completedCopy.setStatus(Status.COMPLETE);
+        taskService.updateTask(completed.getId(), completedCopy, authentication);
+        taskService.createTask(task("Annual review", today.plusDays(30)), authentication);
+        assertEquals(1, scheduler.pending(), "completed tasks and tasks beyond the horizon have no timer");
+
+        scheduler.advanceTo(startOf(today.plusDays(1)).plusSeconds(60));
+        TaskReminder dueSoon = sent.poll(10, TimeUnit.SECONDS);
+        assertNotNull(dueSoon);
+        assertEquals(report.getId(), dueSoon.taskId());
+        assertEquals(TaskReminder.Kind.DUE_SOON, dueSoon.kind());
+        assertEquals("Quarterly report", dueSoon.title());
+
+        scheduler.advanceTo(startOf(today.plusDays(2)).plusSeconds(60));
+        TaskReminder overdue = sent.poll(10, TimeUnit.SECONDS);
+        assertNotNull(overdue);
+        assertEquals(report.getId(), overdue.taskId());
+        assertEquals(TaskReminder.Kind.OVERDUE, overdue.kind());
+        assertNull(sent.poll(200, TimeUnit.MILLISECONDS));
+
+        JdbcTemplate jdbcTemplate = node.getBean(JdbcTemplate.class);
+        assertEquals(2, stage(jdbcTemplate, report.getId()));
+        taskService.updateTask(report.getId(), task("Quarterly report", today.plusDays(3)), authentication);
+        assertEquals(0, stage(jdbcTemplate, report.getId()), "a new due date starts the reminders over");
+        assertEquals(0, stage(jdbcTemplate, completed.getId()));
+    }
+
+    @Test
+    void testRestartedNodeRecoversPendingRemindersAndEachIsSentOnce() throws Exception {
+        ConfigurableApplicationContext nodeA = startNode();
+        Authentication authentication = createUser(nodeA);
+        TaskDTO late = nodeA.getBean(TaskService.class).createTask(task("Renew certificate", today.minusDays(1)), authentication);
+
+        // Started after the write, so it only knows the task from the database
+        ConfigurableApplicationContext nodeB = startNode();
+        TaskReminderScheduler schedulerA = nodeA.getBean(TaskReminderScheduler.class);
+        TaskReminderScheduler schedulerB = nodeB.getBean(TaskReminderScheduler.class);
+        Instant now = Instant.now();
+        schedulerA.advanceTo(now);
+        schedulerB.advanceTo(now);
+
+        BlockingQueue<TaskReminder> sentByA = nodeA.getBean(RecordingSink.class).reminders;
+        BlockingQueue<TaskReminder> sentByB = nodeB.getBean(RecordingSink.class).reminders;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (stage(nodeA.getBean(JdbcTemplate.class), late.getId()) != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(300);
+        List<TaskReminder> sent = new ArrayList<>(sentByA);
+        sent.addAll(sentByB);
+        assertEquals(1, sent.size(), "both nodes fired, one recorded the stage and sent it");
+        assertEquals(TaskReminder.Kind.OVERDUE, sent.get(0).kind(), "already past due, so no stale due-soon reminder");
+        assertEquals(0, schedulerA.pending());
+        assertEquals(0, schedulerB.pending());
+    }
+
+    public static class RecordingSink implements ReminderSink {
+        private final BlockingQueue<TaskReminder> reminders = new LinkedBlockingQueue<>();
+
+        @Override
+        public void deliver(TaskReminder reminder) {
+            reminders.add(reminder);
+        }
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        String database = "reminder_db_" + System.identityHashCode(this);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskmanagementtoolApplication.class, RecordingSink.class)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--server.port=0",
+                        "--task.reminder.zone=UTC");
+        nodes.add(context);
+        return context;
+    }
+
+    private static Authentication createUser(ConfigurableApplicationContext node) {
+        JdbcTemplate jdbcTemplate = node.getBean(JdbcTemplate.class);
+        int userId = insertUser(jdbcTemplate, "Reminder", "reminder@example.com");
+        return authentication(userId, "reminder@example.com");
+    }
+
+    private static int stage(JdbcTemplate jdbcTemplate, String taskId) {
+        return jdbcTemplate.queryForObject("SELECT reminder_stage FROM task WHERE id = ?", Integer.class, taskId);
+    }
+
+    private static Instant startOf(LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static TaskDTO task(String title, LocalDate dueDate) {
+        return TestFixtures.task(title, "Reminded", Status.TO_DO, Priority.MEDIUM, dueDate);
+    }
+}
@@ -0,0 +1,142 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.search.TaskSearchIndex;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The search index follows committed task writes, catches up with other nodes' writes and can be rebuilt from the table
+@SpringBootTest
+class TaskSearchTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int userId;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Search", "search@example.com");
+        authentication = authentication(userId, "search@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM task_counter WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM task_tombstone WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM task_sync WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        taskSearchIndex.rebuild();
+    }
+
+    @Test
+    void testWritesAreSearchableOnceCommitted() {
+        TaskDTO invoice = taskService.createTask(task("Send invoice", "Customer Acme"), authentication);
+        List<TaskBatchResult> created = taskService.createTasks(List.of(task("Renew domain", "acme.example"), task("Water plants", "Office")), authentication);
+
+        assertEquals(List.of(invoice.getId(), created.get(0).getId()), ids(taskService.searchTasks("acme", 10, authentication)));
+
+        taskService.updateTask(invoice.getId(), task("Send reminder", "Customer Globex"), authentication);
+        assertEquals(List.of(created.get(0).getId()), ids(taskService.searchTasks("acme", 10, authentication)));
+        assertEquals(List.of(invoice.getId()), ids(taskService.searchTasks("glob", 10, authentication)));
+
+        taskService.deleteTask(invoice.getId(), authentication);
+        taskService.deleteTasks(List.of(created.get(0).getId()), authentication);
+        assertEquals(List.of(), taskService.searchTasks("acme glob", 10, authentication));
+        assertEquals(List.of(created.get(1).getId()), ids(taskService.searchTasks("water", 10, authentication)));
+    }
+
+    @Test
+    void testRebuildLoadsTasksWrittenOutsideTheService() {
+        jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date) VALUES ('S1', 'Migrated row', 'Legacy import', ?, 'TO_DO', 'LOW', DATE '2030-01-01')", userId);
+        assertEquals(List.of(), taskService.searchTasks("legacy", 10, authentication));
+
+        taskSearchIndex.rebuild();
+
+        List<TaskDTO> found = taskService.searchTasks("legacy", 10, authentication);
+        assertEquals(List.of("S1"), ids(found));
+        assertEquals("Migrated row", found.get(0).getTitle());
+    }
+
+    @Test
+    void testTitleSuggestionsFollowWritesAndRebuild() {
+        TaskDTO standup = taskService.createTask(task("Standup notes", "Monday"), authentication);
+        taskService.createTasks(List.of(task("Standup notes", "Tuesday"), task("Stakeholder sync", "Quarterly")), authentication);
+        assertEquals(List.of("Standup notes", "Stakeholder sync"), taskService.suggestTitles("sta", 10, authentication));
+
+        taskService.updateTask(standup.getId(), task("Status report", "Monday"), authentication);
+        assertEquals(List.of("Stakeholder sync", "Standup notes", "Status report"), taskService.suggestTitles("st", 10, authentication));
+
+        taskService.deleteTask(standup.getId(), authentication);
+        assertEquals(List.of(), taskService.suggestTitles("stat", 10, authentication));
+
+        jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date) VALUES ('S2', 'Stale branch cleanup', 'Legacy', ?, 'TO_DO', 'LOW', DATE '2030-01-01')", userId);
+        taskSearchIndex.rebuild();
+        assertEquals(List.of("Stakeholder sync", "Stale branch cleanup", "Standup notes"), taskService.suggestTitles("sta", 10, authentication));
+    }
+
+    @Test
+    void testWritesOnOtherNodesAreCaughtUpFromTheChangeFeed() {
+        TaskDTO report = taskService.createTask(task("Quarterly report", "Finance"), authentication);
+        taskSearchIndex.catchUp();
+        assertEquals(List.of(report.getId()), ids(taskService.searchTasks("finance", 10, authentication)));
+
+        // What another node's transaction leaves behind: a new task and a renamed one under the next sequence number
+        long seq = nextChangeSeq();
+        jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date, change_seq) "
+                + "VALUES ('S3', 'Remote budget', 'Made elsewhere', ?, 'TO_DO', 'LOW', DATE '2030-01-01', ?)", userId, seq);
+        jdbcTemplate.update("UPDATE task SET title = 'Remote review', change_seq = ? WHERE id = ?", seq, report.getId());
+        assertEquals(List.of(), taskService.searchTasks("remote", 10, authentication));
+
+        taskSearchIndex.catchUp();
+        assertEquals(List.of("S3"), ids(taskService.searchTasks("budget", 10, authentication)));
+        assertEquals(List.of("Remote budget", "Remote review"), taskService.suggestTitles("rem", 10, authentication));
+        assertEquals(List.of(), taskService.suggestTitles("quar", 10, authentication));
+
+        seq = nextChangeSeq();
+        jdbcTemplate.update("DELETE FROM task WHERE id = 'S3'");
+        jdbcTemplate.update("INSERT INTO task_tombstone (task_id, user_id, change_seq, deleted_at) VALUES ('S3', ?, ?, ?)",
+                userId, seq, System.currentTimeMillis());
+        taskSearchIndex.catchUp();
+        assertEquals(List.of(), taskService.searchTasks("budget", 10, authentication));
+        assertEquals(List.of("Remote review"), taskService.suggestTitles("rem", 10, authentication));
+        // Catching up again, or hearing of a change already caught up, changes nothing
+        taskSearchIndex.catchUp();
+        taskService.updateTask(report.getId(), task("Remote review", "Finance"), authentication);
+        taskSearchIndex.catchUp();
+        // Counted once, so it still ranks with a title used once, alphabetically
+        taskService.createTask(task("Remote agenda", "Finance"), authentication);
+        assertEquals(List.of("Remote agenda", "Remote review"), taskService.suggestTitles("rem", 10, authentication));
+    }
+
+    private long nextChangeSeq() {
+        jdbcTemplate.update("UPDATE task_sync SET change_seq = change_seq + 1, changed_at = ? WHERE user_id = ?",
+                System.currentTimeMillis(), userId);
+        return jdbcTemplate.queryForObject("SELECT change_seq FROM task_sync WHERE user_id = ?", Long.class, userId);
+    }
+
+    private static List<String> ids(List<TaskDTO> tasks) {
+        return tasks.stream().map(TaskDTO::getId).toList();
+    }
+}
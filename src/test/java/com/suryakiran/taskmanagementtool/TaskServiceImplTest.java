@@ -1,23 +1,39 @@
 package com.suryakiran.taskmanagementtool;
 
+import com.suryakiran.taskmanagementtool.dto.CursorPage;
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
 import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.UserDTO;
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
 import com.suryakiran.taskmanagementtool.exception.AuthenticationRequiredException;
 import com.suryakiran.taskmanagementtool.model.Task;
 import com.suryakiran.taskmanagementtool.model.User;
+import com.suryakiran.taskmanagementtool.repository.TaskCursor;
 import com.suryakiran.taskmanagementtool.repository.TaskRepository;
+import com.suryakiran.taskmanagementtool.repository.TaskSortKey;
 import com.suryakiran.taskmanagementtool.repository.UserRepository;
+import com.suryakiran.taskmanagementtool.search.TaskSearchIndex;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
 import com.suryakiran.taskmanagementtool.service.TaskServiceImpl;
+import com.suryakiran.taskmanagementtool.service.TaskStatsService;
+import com.suryakiran.taskmanagementtool.service.TaskSyncService;
+import com.suryakiran.taskmanagementtool.stream.TaskStreamHub;
 import com.suryakiran.taskmanagementtool.util.UniqueIdGenerator;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,18 +53,40 @@ class TaskServiceImplTest {
     @Mock
     private Authentication authentication;
 
-    @InjectMocks
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TaskStreamHub taskStreamHub;
+
+    @Mock
+    private TaskSyncService taskSyncService;
+
     private TaskServiceImpl taskService;
 
     private User user;
+    private AuthenticatedUser principal;
+    private UserDTO creator;
     private Task task;
     private TaskDTO taskDTO;
 
     @BeforeEach
     void setUp() {
+        taskService = new TaskServiceImpl(taskRepository, userRepository, uniqueIdGenerator, validator, eventPublisher, taskSearchIndex, taskStatsService, taskStreamHub, taskSyncService, 2, 10);
         user = new User();
         user.setId(1);
         user.setEmail("test@example.com");
+        principal = new AuthenticatedUser(1, "test@example.com", "password", List.of());
+        creator = new UserDTO(1, "Test", "User", "test@example.com", null);
 
         task = new Task();
         task.setId("1");
@@ -65,8 +103,9 @@ class TaskServiceImplTest {
     @Test
     void testCreateTask() {
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn("test@example.com");
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(userRepository.findSummaryById(1)).thenReturn(Optional.of(creator));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
         when(uniqueIdGenerator.generateUniqueId()).thenReturn("1");
         when(taskRepository.save(any(Task.class))).thenReturn(task);
 
@@ -74,6 +113,7 @@ class TaskServiceImplTest {
 
         assertNotNull(createdTask);
         assertEquals("1", createdTask.getId());
+        assertEquals("test@example.com", createdTask.getCreator().getEmail());
         assertEquals(taskDTO.getDueDate(), createdTask.getDueDate()); // Verify dueDate
         verify(taskRepository, times(1)).save(any(Task.class));
     }
@@ -89,13 +129,13 @@ class TaskServiceImplTest {
     @Test
     void testDeleteTask() {
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn("test@example.com");
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndUser("1", user)).thenReturn(Optional.of(task));
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(taskRepository.findByIdAndUserId("1", 1)).thenReturn(Optional.of(task));
 
         taskService.deleteTask("1", authentication);
 
         verify(taskRepository, times(1)).delete(task);
+        verify(userRepository, never()).findByEmail(anyString());
     }
 
     @Test
@@ -109,10 +149,10 @@ class TaskServiceImplTest {
     @Test
     void testUpdateTask() {
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn("test@example.com");
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndUser("1", user)).thenReturn(Optional.of(task));
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(taskRepository.findByIdAndUserId("1", 1)).thenReturn(Optional.of(task));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(userRepository.findSummaryById(1)).thenReturn(Optional.of(creator));
 
         TaskDTO updatedTask = taskService.updateTask("1", taskDTO, authentication);
 
@@ -129,4 +169,98 @@ class TaskServiceImplTest {
         assertThrows(AuthenticationRequiredException.class, () -> taskService.updateTask("1", taskDTO, authentication));
         verify(taskRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetTaskById_UsesPrincipalIdWithoutUserLookup() {
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(taskRepository.findDtoByIdAndUserId("1", 1)).thenReturn(Optional.of(taskDTO));
+
+        assertTrue(taskService.getTaskById("1", authentication).isPresent());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGetTaskById_FallsBackToEmailLookupForOtherPrincipals() {
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn("test@example.com");
+        when(authentication.getName()).thenReturn("test@example.com");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(taskRepository.findDtoByIdAndUserId("1", 1)).thenReturn(Optional.of(taskDTO));
+
+        assertTrue(taskService.getTaskById("1", authentication).isPresent());
+    }
+
+    @Test
+    void testGetTasksPage_ReturnsNextCursorWhenMoreRowsExist() {
+        TaskDTO second = new TaskDTO();
+        second.setId("2");
+        second.setTitle("Second Task");
+        second.setDueDate(java.sql.Date.valueOf(LocalDate.now().plusDays(2)));
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(taskRepository.findPageAfter(1, null, null, TaskSortKey.DUE_DATE, Sort.Direction.ASC, null, 2))
+                .thenReturn(List.of(taskDTO, second));
+
+        CursorPage<TaskDTO> page = taskService.getTasksPage("", 1, "dueDate", "asc", null, null, false, authentication);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getTotalElements());
+        TaskCursor next = TaskCursor.decode(page.getNext());
+        assertEquals(TaskSortKey.DUE_DATE, next.getSortKey());
+        assertEquals("1", next.getLastId());
+        assertEquals(taskDTO.getDueDate(), next.getTypedLastValue());
+        verify(taskRepository, never()).countMatching(anyInt(), any(), any());
+    }
+
+    @Test
+    void testGetTasksPage_LastPageHasNoCursor() {
+        String cursor = new TaskCursor(TaskSortKey.TITLE, Sort.Direction.DESC, "Some | title", "0").encode();
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(taskRepository.findPageAfter(eq(1), isNull(), isNull(), eq(TaskSortKey.TITLE), eq(Sort.Direction.DESC), any(TaskCursor.class), eq(21)))
+                .thenReturn(List.of(taskDTO));
+        when(taskRepository.countMatching(1, null, null)).thenReturn(1L);
+
+        CursorPage<TaskDTO> page = taskService.getTasksPage(cursor, 20, "dueDate", "asc", null, null, true, authentication);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNext());
+        assertEquals(1L, page.getTotalElements());
+    }
+
+    @Test
+    void testGetTasksPage_RejectsTamperedCursor() {
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasksPage("not-a-cursor", 20, "dueDate", "asc", null, null, false, authentication));
+    }
+
+    @Test
+    void testDeleteTasks_ReportsTasksOfOtherUsersAsNotFound() {
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        Task owned = new Task();
+        owned.setId("A");
+        when(taskRepository.findByIdInAndUserId(any(), eq(1))).thenReturn(List.of(owned));
+
+        List<TaskBatchResult> results = taskService.deleteTasks(List.of("A", "B"), authentication);
+
+        verify(taskRepository).deleteAllByIdInBatch(Set.of("A"));
+        assertEquals(TaskBatchResult.Status.DELETED, results.get(0).getStatus());
+        assertEquals(TaskBatchResult.Status.NOT_FOUND, results.get(1).getStatus());
+        assertEquals(1, results.get(1).getIndex());
+        verify(eventPublisher).publishEvent(argThat((TaskChangeEvent event) -> event.type() == TaskChangeEvent.Type.DELETED && event.taskId().equals("A")));
+    }
+
+    @Test
+    void testBatchLargerThanMaximumIsRejected() {
+        when(authentication.isAuthenticated()).thenReturn(true);
+        List<String> ids = Collections.nCopies(11, "A");
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.deleteTasks(ids, authentication));
+        verifyNoInteractions(taskRepository);
+    }
+}
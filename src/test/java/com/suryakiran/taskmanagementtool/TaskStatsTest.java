@@ -0,0 +1,111 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.dto.TaskStats;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import com.suryakiran.taskmanagementtool.service.TaskStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Counters follow every kind of task write, and reconciliation repairs what bypassed them
+@SpringBootTest
+class TaskStatsTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private int userId;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Stats", "stats@example.com");
+        authentication = authentication(userId, "stats@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM task_counter WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void testCountersFollowWrites() {
+        TaskDTO dueToday = taskService.createTask(task(Status.TO_DO, Priority.HIGH, today), authentication);
+        TaskDTO late = taskService.createTask(task(Status.IN_PROGRESS, Priority.LOW, today.minusDays(1)), authentication);
+        List<TaskBatchResult> created = taskService.createTasks(List.of(
+                task(Status.TO_DO, Priority.LOW, today.plusDays(30)),
+                task(Status.COMPLETE, Priority.MEDIUM, today.minusDays(5)),
+                task(Status.TO_DO, Priority.MEDIUM, today.plusDays(1))), authentication);
+
+        TaskStats stats = taskService.getTaskStats(authentication);
+        assertEquals(5, stats.getTotal());
+        assertEquals(Map.of("To-Do", 3L, "In Progress", 1L, "Complete", 1L), stats.getByStatus());
+        assertEquals(Map.of("Low", 2L, "Medium", 2L, "High", 1L), stats.getByPriority());
+        boolean tomorrowThisWeek = today.getDayOfWeek() != DayOfWeek.SUNDAY;
+        assertDue(stats, 1, 1, tomorrowThisWeek ? 1 : 0, tomorrowThisWeek ? 1 : 2);
+
+        taskService.updateTask(late.getId(), task(Status.COMPLETE, Priority.LOW, today.minusDays(1)), authentication);
+        taskService.updateTask(dueToday.getId(), task(Status.TO_DO, Priority.HIGH, today.plusDays(30)), authentication);
+        taskService.deleteTasks(List.of(created.get(2).getId()), authentication);
+        taskService.deleteTask(created.get(1).getId(), authentication);
+
+        stats = taskService.getTaskStats(authentication);
+        assertEquals(3, stats.getTotal());
+        assertEquals(Map.of("To-Do", 2L, "In Progress", 0L, "Complete", 1L), stats.getByStatus());
+        assertEquals(Map.of("Low", 2L, "Medium", 0L, "High", 1L), stats.getByPriority());
+        assertDue(stats, 0, 0, 0, 2);
+        assertFalse(taskStatsService.reconcile(userId), "the counters match the tasks");
+    }
+
+    @Test
+    void testReconciliationRepairsCountersBypassedByDirectWrites() {
+        taskService.createTask(task(Status.TO_DO, Priority.HIGH, today), authentication);
+        assertEquals(1, taskService.getTaskStats(authentication).getTotal());
+
+        jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date) VALUES ('ST1', 'Imported', 'Legacy', ?, 'IN_PROGRESS', 'LOW', ?)",
+                userId, Date.valueOf(today.minusDays(2)));
+        jdbcTemplate.update("UPDATE task_counter SET task_count = 7 WHERE user_id = ? AND dimension = 'PRIORITY' AND bucket = 'HIGH'", userId);
+
+        assertTrue(taskStatsService.reconcile(userId));
+        TaskStats stats = taskService.getTaskStats(authentication);
+        assertEquals(2, stats.getTotal());
+        assertEquals(Map.of("Low", 1L, "Medium", 0L, "High", 1L), stats.getByPriority());
+        assertDue(stats, 1, 1, 0, 0);
+        assertFalse(taskStatsService.reconcile(userId));
+    }
+
+    private static void assertDue(TaskStats stats, long overdue, long today, long thisWeek, long later) {
+        assertEquals(List.of(overdue, today, thisWeek, later), List.of(stats.getDue().getOverdue(),
+                stats.getDue().getToday(), stats.getDue().getThisWeek(), stats.getDue().getLater()));
+    }
+
+    private static TaskDTO task(Status status, Priority priority, LocalDate dueDate) {
+        return TestFixtures.task("Stats task", "Counted", status, priority, dueDate);
+    }
+}
@@ -0,0 +1,179 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.event.TaskChangeEvent;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import com.suryakiran.taskmanagementtool.stream.TaskStreamEvent;
+import com.suryakiran.taskmanagementtool.stream.TaskStreamHub;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// The event stream endpoint: committed changes to the caller's own tasks arrive as server-sent events
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskStreamTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStreamHub taskStreamHub;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int userId;
+    private int otherUserId;
+    private AuthenticatedUser principal;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Stream", "stream@example.com");
+        otherUserId = insertUser(jdbcTemplate, "Stream", "other-stream@example.com");
+        principal = principal(userId, "stream@example.com");
+        grantUserRole(jdbcTemplate, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id IN (?, ?)", userId, otherUserId);
+        jdbcTemplate.update("DELETE FROM task_counter WHERE user_id IN (?, ?)", userId, otherUserId);
+        jdbcTemplate.update("DELETE FROM user_roles WHERE user_id IN (?, ?)", userId, otherUserId);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", userId, otherUserId);
+    }
+
+    @Test
+    void testStreamCarriesTheCallersCommittedChanges() throws Exception {
+        int subscribers = taskStreamHub.subscribers();
+        MvcResult stream = mockMvc.perform(get("/api/tasks/stream")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(principal, userId)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(subscribers + 1, taskStreamHub.subscribers());
+        awaitContent(stream, ":heartbeat\n\n");
+
+        Authentication authentication = authentication(principal);
+        Authentication other = authentication(otherUserId, "other-stream@example.com");
+        taskService.createTask(task("Not mine"), other);
+        String id = taskService.createTask(task("Streamed"), authentication).getId();
+        awaitContent(stream, "event:created\ndata:{\"id\":\"" + id + "\",\"title\":\"Streamed\",\"description\":\"Pushed\","
+                + "\"status\":\"To-Do\",\"priority\":\"Medium\",\"dueDate\":\"2030-01-01\"}\n\n");
+        taskService.updateTask(id, task("Renamed"), authentication);
+        awaitContent(stream, "event:updated\ndata:{\"id\":\"" + id + "\",\"title\":\"Renamed\"");
+        taskService.deleteTask(id, authentication);
+        awaitContent(stream, "event:deleted\ndata:{\"id\":\"" + id + "\"}\n\n");
+
+        assertFalse(stream.getResponse().getContentAsString().contains("Not mine"));
+        assertEquals("text/event-stream", stream.getResponse().getContentType());
+    }
+
+    @Test
+    void testAClientThatStopsReadingIsEvictedAtTheWriteDeadline() throws Exception {
+        CountDownLatch stuck = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        BlockingQueue<Object> delivered = new LinkedBlockingQueue<>();
+        // A single sender, which the stalled client's write holds until its deadline
+        TaskStreamHub hub = new TaskStreamHub(16, Duration.ofMinutes(1), Duration.ofMinutes(1), Duration.ofMillis(200), 100, 1) {
+            private int opened;
+
+            @Override
+            protected SseEmitter createEmitter(Duration timeout) {
+                boolean stalled = opened++ == 0;
+                return new SseEmitter(timeout.toMillis()) {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        if (stalled) {
+                            stuck.countDown();
+                            try {
+                                new CountDownLatch(1).await();
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                        } else {
+                            builder.build().forEach(data -> delivered.add(data.getData()));
+                        }
+                    }
+
+                    @Override
+                    public void complete() {
+                        if (stalled) {
+                            completed.countDown();
+                        }
+                        super.complete();
+                    }
+                };
+            }
+        };
+        hub.start();
+        try {
+            int subscribers = hub.subscribers();
+            hub.subscribe(1);
+            assertTrue(stuck.await(5, TimeUnit.SECONDS));
+            hub.subscribe(2);
+            hub.onTaskChange(new TaskChangeEvent(1, "a", null, snapshot("Stalled")));
+            hub.onTaskChange(new TaskChangeEvent(2, "b", null, snapshot("Delivered")));
+
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS), "the stalled write was not interrupted");
+            assertTrue(completed.await(5, TimeUnit.SECONDS), "the stalled stream was not completed");
+            Object data;
+            do {
+                data = delivered.poll(5, TimeUnit.SECONDS);
+                assertNotNull(data, "the other stream waited behind the stalled one");
+            } while (!(data instanceof TaskStreamEvent));
+            assertEquals("Delivered", ((TaskStreamEvent) data).title());
+            assertEquals(subscribers + 1, hub.subscribers());
+        } finally {
+            hub.shutdown();
+        }
+    }
+
+    private static TaskChangeEvent.Snapshot snapshot(String title) {
+        return new TaskChangeEvent.Snapshot(title, "Pushed", Status.TO_DO, Priority.MEDIUM, Date.valueOf(DUE_DATE));
+    }
+
+    private static void awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stream.getResponse().getContentAsString().contains(expected)) {
+            assertTrue(System.currentTimeMillis() < deadline,
+                    "missing " + expected + " in " + stream.getResponse().getContentAsString());
+            Thread.sleep(10);
+        }
+    }
+
+    private static TaskDTO task(String title) {
+        return TestFixtures.task(title, "Pushed");
+    }
+}
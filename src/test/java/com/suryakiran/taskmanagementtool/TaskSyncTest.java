@@ -0,0 +1,178 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskBatchResult;
+import com.suryakiran.taskmanagementtool.dto.TaskChanges;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import com.suryakiran.taskmanagementtool.service.TaskSyncService;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.suryakiran.taskmanagementtool.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The change feed returns only what was written after a watermark, including deletions, and falls back to a full
+// sync once the tombstones a watermark needs have been pruned
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskSyncTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int userId;
+    private Authentication authentication;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser(jdbcTemplate, "Sync", "sync@example.com");
+        grantUserRole(jdbcTemplate, userId);
+        AuthenticatedUser principal = principal(userId, "sync@example.com");
+        authentication = authentication(principal);
+        token = jwtUtil.generateToken(principal, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM task_counter WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM task_tombstone WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM task_sync WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM user_roles WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void testChangesSinceAWatermark() throws Exception {
+        String first = taskService.createTask(task("First"), authentication).getId();
+        String second = taskService.createTask(task("Second"), authentication).getId();
+        String third = taskService.createTask(task("Third"), authentication).getId();
+        // Written before the change feed existed
+        jdbcTemplate.update("INSERT INTO task (id, title, description, user_id, status, priority, due_date) VALUES ('SYNC0', 'Legacy', 'Old', ?, 'TO_DO', 'LOW', ?)",
+                userId, Date.valueOf(DUE_DATE));
+
+        TaskChanges full = taskService.getTaskChanges(null, 100, authentication);
+        assertTrue(full.isReset());
+        assertFalse(full.isHasMore());
+        assertEquals(Set.of("SYNC0", first, second, third), ids(full.getChanged()));
+        assertEquals(List.of(), full.getDeleted());
+
+        TaskChanges none = taskService.getTaskChanges(full.getWatermark(), 100, authentication);
+        assertFalse(none.isReset());
+        assertEquals(List.of(), none.getChanged());
+        assertEquals(full.getWatermark(), none.getWatermark());
+
+        taskService.updateTask(first, task("First, edited"), authentication);
+        taskService.deleteTask(second, authentication);
+        List<TaskBatchResult> created = taskService.createTasks(List.of(task("Fourth"), task("Fifth")), authentication);
+        // Created and deleted between two syncs: only the tombstone
+        taskService.deleteTasks(List.of(created.get(1).getId()), authentication);
+
+        TaskChanges delta = taskService.getTaskChanges(full.getWatermark(), 100, authentication);
+        assertFalse(delta.isReset());
+        assertEquals(List.of(first, created.get(0).getId()), delta.getChanged().stream().map(TaskDTO::getId).toList());
+        assertEquals("First, edited", delta.getChanged().get(0).getTitle());
+        assertEquals(List.of(second, created.get(1).getId()), delta.getDeleted());
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", delta.getWatermark())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reset").value(false))
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.deleted").isEmpty())
+                .andExpect(jsonPath("$.watermark").value(delta.getWatermark()));
+        mockMvc.perform(get("/api/tasks/changes").param("since", "not a watermark")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testPagesOfChangesAndPrunedTombstones() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(taskService.createTask(task("Task " + i), authentication).getId());
+        }
+        TaskChanges synced = taskService.getTaskChanges(null, 100, authentication);
+        // One transaction takes one sequence number for both; the page may end between them
+        taskService.deleteTasks(ids.subList(0, 2), authentication);
+        taskService.updateTask(ids.get(2), task("Edited"), authentication);
+
+        List<String> deleted = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        String watermark = synced.getWatermark();
+        TaskChanges page;
+        do {
+            page = taskService.getTaskChanges(watermark, 1, authentication);
+            assertTrue(page.getChanged().size() + page.getDeleted().size() <= 1);
+            deleted.addAll(page.getDeleted());
+            page.getChanged().forEach(task -> changed.add(task.getId()));
+            watermark = page.getWatermark();
+        } while (page.isHasMore());
+        assertEquals(ids.subList(0, 2).stream().sorted().toList(), deleted);
+        assertEquals(List.of(ids.get(2)), changed);
+
+        jdbcTemplate.update("UPDATE task_tombstone SET deleted_at = 0 WHERE user_id = ?", userId);
+        taskSyncService.pruneTombstones();
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_tombstone WHERE user_id = ?", Integer.class, userId));
+
+        TaskChanges stale = taskService.getTaskChanges(synced.getWatermark(), 100, authentication);
+        assertTrue(stale.isReset(), "the deletions after this watermark are gone");
+        assertEquals(Set.copyOf(ids.subList(2, 5)), ids(stale.getChanged()));
+        assertFalse(taskService.getTaskChanges(watermark, 100, authentication).isReset());
+
+        // A full sync's pages start below the pruning mark and must still run to the end
+        Set<String> resynced = new HashSet<>();
+        watermark = null;
+        int pages = 0;
+        do {
+            page = taskService.getTaskChanges(watermark, 1, authentication);
+            assertEquals(pages == 0, page.isReset());
+            page.getChanged().forEach(task -> resynced.add(task.getId()));
+            watermark = page.getWatermark();
+            assertTrue(++pages <= 4, "the full sync keeps starting over");
+        } while (page.isHasMore());
+        assertEquals(Set.copyOf(ids.subList(2, 5)), resynced);
+        assertFalse(taskService.getTaskChanges(watermark, 1, authentication).isReset());
+    }
+
+    private static Set<String> ids(List<TaskDTO> tasks) {
+        return tasks.stream().map(TaskDTO::getId).collect(Collectors.toSet());
+    }
+
+    private static TaskDTO task(String title) {
+        return TestFixtures.task(title, "Synced");
+    }
+}
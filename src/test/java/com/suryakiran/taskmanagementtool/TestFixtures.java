@@ -0,0 +1,60 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+// Users and tasks shared by the integration tests and benchmarks. Users are inserted straight into the database
+// with a password that is never checked; tests act as them through principal() or a token built from it.
+public final class TestFixtures {
+
+    public static final LocalDate DUE_DATE = LocalDate.of(2030, 1, 1);
+
+    private TestFixtures() {
+    }
+
+    public static int insertUser(JdbcTemplate jdbcTemplate, String firstName, String email) {
+        jdbcTemplate.update("INSERT INTO users (first_name, last_name, email, password) VALUES (?, 'User', ?, 'x')", firstName, email);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Integer.class, email);
+    }
+
+    // Requests made with a token are only let through for users holding a role
+    public static void grantUserRole(JdbcTemplate jdbcTemplate, int userId) {
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) SELECT ?, id FROM roles WHERE name = 'USER'", userId);
+    }
+
+    public static AuthenticatedUser principal(int userId, String email) {
+        return new AuthenticatedUser(userId, email, "x", List.of());
+    }
+
+    public static Authentication authentication(int userId, String email) {
+        return authentication(principal(userId, email));
+    }
+
+    public static Authentication authentication(AuthenticatedUser principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, List.of());
+    }
+
+    // An open task of medium priority, due on DUE_DATE
+    public static TaskDTO task(String title, String description) {
+        return task(title, description, Status.TO_DO, Priority.MEDIUM, DUE_DATE);
+    }
+
+    public static TaskDTO task(String title, String description, Status status, Priority priority, LocalDate dueDate) {
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setTitle(title);
+        taskDTO.setDescription(description);
+        taskDTO.setStatus(status);
+        taskDTO.setPriority(priority);
+        taskDTO.setDueDate(Date.valueOf(dueDate));
+        return taskDTO;
+    }
+}
@@ -0,0 +1,74 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.util.TimeOrderedIdStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdStrategyTest {
+
+    @Test
+    void testIdsAreFixedWidthAndOrdered() {
+        TimeOrderedIdStrategy strategy = new TimeOrderedIdStrategy(7);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(strategy.nextId());
+        }
+        for (int i = 1; i < ids.size(); i++) {
+            assertEquals(13, ids.get(i).length());
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+        }
+    }
+
+    @Test
+    void testSequenceOverflowWithFrozenClockStaysUnique() {
+        Clock frozen = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+        TimeOrderedIdStrategy strategy = new TimeOrderedIdStrategy(1, frozen);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(ids.add(strategy.nextId()));
+        }
+    }
+
+    @Test
+    void testConcurrentGenerationIsCollisionFree() throws InterruptedException {
+        TimeOrderedIdStrategy strategy = new TimeOrderedIdStrategy(3);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(strategy.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(80_000, ids.size());
+    }
+
+    @Test
+    void testDifferentNodesNeverCollide() {
+        Clock frozen = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+        TimeOrderedIdStrategy first = new TimeOrderedIdStrategy(1, frozen);
+        TimeOrderedIdStrategy second = new TimeOrderedIdStrategy(2, frozen);
+        assertNotEquals(first.nextId(), second.nextId());
+    }
+
+    @Test
+    void testInvalidNodeIdIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdStrategy(1024));
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdStrategy(-1));
+    }
+}
@@ -0,0 +1,90 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.reminder.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    void testFiresAtDeadlinesOnEveryLevel() {
+        TimingWheel<String, Long> wheel = new TimingWheel<>(TICK, 0);
+        long[] deadlines = {TICK, 63 * TICK, 64 * TICK, 65 * TICK, 4095 * TICK, 4096 * TICK, 300_000 * TICK, (1L << 24) * TICK + 5 * TICK};
+        for (long deadline : deadlines) {
+            wheel.schedule("t" + deadline, deadline, deadline);
+        }
+        for (long deadline : deadlines) {
+            List<Long> fired = new ArrayList<>();
+            wheel.advance(deadline - 1, (key, value) -> fired.add(value));
+            assertEquals(List.of(), fired, "nothing fires before " + deadline);
+            wheel.advance(deadline, (key, value) -> fired.add(value));
+            assertEquals(List.of(deadline), fired);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testCancelRescheduleAndPastDeadlines() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, 10 * TICK);
+        wheel.schedule("a", 20 * TICK, "first");
+        wheel.schedule("a", 30 * TICK, "second");
+        wheel.schedule("b", 25 * TICK, "cancelled");
+        wheel.schedule("c", 5 * TICK, "late");
+        assertTrue(wheel.cancel("b"));
+        assertFalse(wheel.cancel("b"));
+        assertEquals(2, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(10 * TICK, (key, value) -> fired.add(value));
+        assertEquals(List.of("late"), fired);
+        wheel.advance(29 * TICK, (key, value) -> fired.add(value));
+        assertEquals(List.of("late"), fired);
+        // A callback may reschedule its own key
+        wheel.advance(30 * TICK, (key, value) -> {
+            fired.add(value);
+            wheel.schedule(key, 40 * TICK, "again");
+        });
+        wheel.advance(40 * TICK, (key, value) -> fired.add(value));
+        assertEquals(List.of("late", "second", "again"), fired);
+    }
+
+    @Test
+    void testRandomScheduleMatchesExpectedFireTimes() {
+        Random random = new Random(11);
+        TimingWheel<Integer, Long> wheel = new TimingWheel<>(TICK, 0);
+        Map<Integer, Long> expected = new HashMap<>();
+        long now = 0;
+        for (int round = 0; round < 2000; round++) {
+            for (int i = 0; i < 5; i++) {
+                int key = random.nextInt(500);
+                long deadline = now + (long) (Math.pow(random.nextDouble(), 3) * 1_000_000) * TICK - TICK;
+                wheel.schedule(key, deadline, deadline);
+                expected.put(key, deadline);
+            }
+            if (random.nextInt(4) == 0) {
+                int key = random.nextInt(500);
+                assertEquals(expected.remove(key) != null, wheel.cancel(key));
+            }
+            long next = now + random.nextInt(5000) * TICK;
+            long at = now;
+            wheel.advance(next, (key, deadline) -> {
+                assertEquals(expected.remove(key), deadline);
+                assertTrue(deadline <= next, "fired early");
+            });
+            now = next;
+            for (long deadline : expected.values()) {
+                assertTrue(deadline > now, "missed a deadline at or before " + now + " (advanced from " + at + ")");
+            }
+            assertEquals(expected.size(), wheel.size());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.search.TitleTrie;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TitleTrieTest {
+
+    private final TitleTrie trie = new TitleTrie();
+
+    @Test
+    void testCompletesByUseCountThenAlphabetically() {
+        trie.add(1, "Fix login bug");
+        trie.add(1, "Fix signup bug");
+        trie.add(1, "fix  SIGNUP bug");
+        trie.add(1, "Follow up");
+        trie.add(2, "Fix other user's bug");
+
+        assertEquals(List.of("fix  SIGNUP bug", "Fix login bug", "Follow up"), trie.suggest(1, "", 10));
+        assertEquals(List.of("fix  SIGNUP bug", "Fix login bug"), trie.suggest(1, "FIX ", 10));
+        assertEquals(List.of("Fix login bug"), trie.suggest(1, "fix   l", 10));
+        assertEquals(List.of("fix  SIGNUP bug"), trie.suggest(1, "f", 1));
+        assertEquals(List.of(), trie.suggest(1, "fixed", 10));
+        assertEquals(List.of(), trie.suggest(3, "f", 10));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    void testRemovingTitlesReranksAndPrunes() {
+        trie.add(1, "Deploy");
+        trie.add(1, "Deploy staging");
+        trie.add(1, "Deploy staging");
+        trie.add(1, "Design review");
+
+        trie.remove(1, "deploy staging");
+        assertEquals(List.of("Deploy", "Deploy staging", "Design review"), trie.suggest(1, "de", 10));
+
+        trie.remove(1, "Deploy staging");
+        trie.remove(1, "Deploy");
+        trie.remove(1, "Never added");
+        assertEquals(List.of("Design review"), trie.suggest(1, "de", 10));
+        assertEquals(List.of(), trie.suggest(1, "dep", 10));
+        assertEquals(1, trie.size());
+
+        trie.add(1, "Deploy");
+        assertEquals(List.of("Deploy", "Design review"), trie.suggest(1, "d", 10));
+    }
+
+    @Test
+    void testRandomWritesMatchABruteForceScan() {
+        Random random = new Random(7);
+        String[] words = {"a", "ab", "abc", "b", "ba", "report", "rep", "review"};
+        Map<String, Integer> counts = new HashMap<>();
+        for (int step = 0; step < 5000; step++) {
+            String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            if (random.nextInt(3) == 0 && counts.containsKey(title)) {
+                trie.remove(1, title);
+                counts.computeIfPresent(title, (key, count) -> count == 1 ? null : count - 1);
+            } else {
+                trie.add(1, title);
+                counts.merge(title, 1, Integer::sum);
+            }
+            if (step % 50 == 0) {
+                for (String prefix : List.of("", "a", "ab", "ab ", "r", "re", "rev", "b a", "x")) {
+                    assertEquals(expected(counts, prefix), trie.suggest(1, prefix, TitleTrie.TOP_K), "prefix '" + prefix + "'");
+                }
+            }
+        }
+        assertEquals(counts.size(), trie.size());
+    }
+
+    private static List<String> expected(Map<String, Integer> counts, String prefix) {
+        List<String> matches = new ArrayList<>();
+        for (String title : counts.keySet()) {
+            if (title.startsWith(prefix)) {
+                matches.add(title);
+            }
+        }
+        matches.sort(Comparator.comparingInt((String title) -> -counts.get(title)).thenComparing(Comparator.naturalOrder()));
+        return matches.subList(0, Math.min(matches.size(), TitleTrie.TOP_K));
+    }
+}
@@ -0,0 +1,59 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.service.TokenBlacklistService;
+import com.suryakiran.taskmanagementtool.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBlacklistServiceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklistService = new TokenBlacklistService(new VerifiedTokenCache(100), nanos::get);
+    }
+
+    @Test
+    void testRevokedTokenIsBlacklistedUntilExpiry() {
+        tokenBlacklistService.blacklistToken("token-a", System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+
+        assertTrue(tokenBlacklistService.isBlacklisted("token-a"));
+        assertFalse(tokenBlacklistService.isBlacklisted("token-b"));
+
+        nanos.addAndGet(Duration.ofMinutes(60).toNanos());
+        assertTrue(tokenBlacklistService.isBlacklisted("token-a"), "kept for the allowed clock skew after exp");
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertFalse(tokenBlacklistService.isBlacklisted("token-a"));
+        assertEquals(0, tokenBlacklistService.size());
+    }
+
+    @Test
+    void testExpiredTokenIsNotStored() {
+        tokenBlacklistService.blacklistToken("token-a", System.currentTimeMillis() - Duration.ofMinutes(5).toMillis());
+
+        assertFalse(tokenBlacklistService.isBlacklisted("token-a"));
+        assertEquals(0, tokenBlacklistService.size());
+        assertEquals(0, tokenBlacklistService.getRevocationVersion());
+    }
+
+    @Test
+    void testMetricsReportSizeAndRevocations() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tokenBlacklistService.bindTo(registry);
+
+        tokenBlacklistService.blacklistToken("token-a", System.currentTimeMillis() + 60_000);
+        tokenBlacklistService.blacklistToken("token-b", System.currentTimeMillis() + 60_000);
+
+        assertEquals(2, registry.get("cache.size").tag("cache", "revokedTokens").gauge().value());
+        assertEquals(2, registry.get("jwt.revocations").gauge().value());
+    }
+}
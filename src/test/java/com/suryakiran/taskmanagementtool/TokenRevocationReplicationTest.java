@@ -0,0 +1,56 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.service.TokenBlacklistService;
+import com.suryakiran.taskmanagementtool.service.TokenRevocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two nodes sharing one H2 database: a logout on one node reaches the other through the change sequence,
+// and a node started later loads existing revocations before serving requests
+class TokenRevocationReplicationTest {
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void testRevocationReplicatesAcrossNodesAndSurvivesRestart() {
+        ConfigurableApplicationContext nodeA = startNode();
+        ConfigurableApplicationContext nodeB = startNode();
+        long expiresAt = System.currentTimeMillis() + 3_600_000;
+
+        nodeA.getBean(TokenRevocationService.class).revoke("logged-out-token", expiresAt);
+
+        assertTrue(nodeA.getBean(TokenBlacklistService.class).isBlacklisted("logged-out-token"));
+        assertFalse(nodeB.getBean(TokenBlacklistService.class).isBlacklisted("logged-out-token"));
+
+        nodeB.getBean(TokenRevocationService.class).poll();
+        assertTrue(nodeB.getBean(TokenBlacklistService.class).isBlacklisted("logged-out-token"));
+        assertFalse(nodeB.getBean(TokenBlacklistService.class).isBlacklisted("other-token"));
+
+        // Revoking the same token on the other node is a no-op
+        nodeB.getBean(TokenRevocationService.class).revoke("logged-out-token", expiresAt);
+
+        ConfigurableApplicationContext restarted = startNode();
+        assertTrue(restarted.getBean(TokenBlacklistService.class).isBlacklisted("logged-out-token"));
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskmanagementtoolApplication.class)
+                .run("--spring.datasource.url=jdbc:h2:mem:revocation_db;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--server.port=0",
+                        "--security.jwt.revocation.poll-interval=PT1H");
+        nodes.add(context);
+        return context;
+    }
+}
@@ -0,0 +1,57 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.suryakiran.taskmanagementtool.model.User;
+import com.suryakiran.taskmanagementtool.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Users are stored with a BCrypt hash, which entity validation must not hold to the raw password's rules
+@SpringBootTest
+class UserRegistrationTest {
+
+    private static final String EMAIL = "register@example.com";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM user_roles WHERE user_id IN (SELECT id FROM users WHERE email = ?)", EMAIL);
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+    }
+
+    @Test
+    void testRegisterUpdateAndResetStoreHashes() {
+        User user = new User();
+        user.setFirstName("Register");
+        user.setLastName("User");
+        user.setEmail(EMAIL);
+        user.setPassword("Secret#123");
+        int id = userService.registerUser(user).getId();
+        assertTrue(passwordEncoder.matches("Secret#123", storedHash()));
+
+        User changes = new User();
+        changes.setPassword("Changed#456");
+        userService.updateUser(id, changes);
+        assertTrue(passwordEncoder.matches("Changed#456", storedHash()));
+
+        userService.resetPassword(EMAIL, "Reset#789A");
+        assertTrue(passwordEncoder.matches("Reset#789A", storedHash()));
+    }
+
+    private String storedHash() {
+        return jdbcTemplate.queryForObject("SELECT password FROM users WHERE email = ?", String.class, EMAIL);
+    }
+}
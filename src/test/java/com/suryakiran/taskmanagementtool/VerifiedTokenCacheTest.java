@@ -0,0 +1,84 @@
+package com.suryakiran.taskmanagementtool;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.suryakiran.taskmanagementtool.service.TokenBlacklistService;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import com.suryakiran.taskmanagementtool.util.VerifiedToken;
+import com.suryakiran.taskmanagementtool.util.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private VerifiedTokenCache cache;
+    private TokenBlacklistService tokenBlacklistService;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cache = new VerifiedTokenCache(100, ticker);
+        tokenBlacklistService = new TokenBlacklistService(cache);
+        jwtUtil = new JwtUtil(tokenBlacklistService, cache);
+        Field secretField = JwtUtil.class.getDeclaredField("secret");
+        secretField.setAccessible(true);
+        secretField.set(jwtUtil, "mysecretkeymysecretkeymysecretkeymysecretkey");
+        token = jwtUtil.generateToken(new User("user@example.com", "x", List.of(new SimpleGrantedAuthority("USER"))), 3);
+    }
+
+    @Test
+    void testRepeatedTokenIsServedFromCache() {
+        VerifiedToken first = jwtUtil.parseToken(token);
+        VerifiedToken second = jwtUtil.parseToken(token);
+
+        assertSame(first, second);
+        assertEquals(3, second.getUserId());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testEntryExpiresAtTokenExpiry() {
+        jwtUtil.parseToken(token);
+
+        nanos.addAndGet(Duration.ofMinutes(59).toNanos());
+        jwtUtil.parseToken(token);
+        assertEquals(1, cache.getHitCount());
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        jwtUtil.parseToken(token);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testBlacklistingEvictsEntry() {
+        jwtUtil.parseToken(token);
+        tokenBlacklistService.blacklistToken(token, System.currentTimeMillis() + 60_000);
+        jwtUtil.parseToken(token);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testInvalidTokenIsNotCached() {
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(tampered));
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(tampered));
+        assertEquals(0, cache.getHitCount());
+    }
+}
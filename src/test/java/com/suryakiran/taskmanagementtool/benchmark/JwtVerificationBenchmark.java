@@ -0,0 +1,95 @@
+package com.suryakiran.taskmanagementtool.benchmark;
+
+import com.suryakiran.taskmanagementtool.service.TokenBlacklistService;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import com.suryakiran.taskmanagementtool.util.VerifiedToken;
+import com.suryakiran.taskmanagementtool.util.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Per-request JWT cost in JwtRequestFilter: the old path that rebuilt the key and parser and verified the
+// token four times, a single parseToken call on the cached parser, and a parseToken answered by VerifiedTokenCache.
+//   mvn -B test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+//       "-Dexec.args=-cp %classpath com.suryakiran.taskmanagementtool.benchmark.JwtVerificationBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarksecretbenchmarksecretbenchmarksecret";
+
+    private JwtUtil jwtUtil;
+    private JwtUtil cachingJwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(1000);
+        TokenBlacklistService tokenBlacklistService = new TokenBlacklistService(cache);
+        jwtUtil = new JwtUtil(tokenBlacklistService);
+        cachingJwtUtil = new JwtUtil(tokenBlacklistService, cache);
+        Field secretField = JwtUtil.class.getDeclaredField("secret");
+        secretField.setAccessible(true);
+        secretField.set(jwtUtil, SECRET);
+        secretField.set(cachingJwtUtil, SECRET);
+        userDetails = new User("bench@example.com", "x", List.of(new SimpleGrantedAuthority("USER")));
+        token = jwtUtil.generateToken(userDetails, 1);
+    }
+
+    // extractUsername, validateToken (username + expiration) and extractRoles, each with a fresh key and parser
+    @Benchmark
+    public void repeatedParse(Blackhole blackhole) {
+        String username = legacyClaims().getSubject();
+        boolean valid = legacyClaims().getSubject().equals(userDetails.getUsername())
+                && legacyClaims().getExpiration().getTime() > System.currentTimeMillis();
+        blackhole.consume(username);
+        blackhole.consume(valid);
+        blackhole.consume(legacyClaims().get("roles", List.class));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        VerifiedToken verifiedToken = jwtUtil.parseToken(token);
+        blackhole.consume(jwtUtil.validateToken(verifiedToken, userDetails));
+        blackhole.consume(verifiedToken.getRoles());
+    }
+
+    @Benchmark
+    public void cachedParse(Blackhole blackhole) {
+        VerifiedToken verifiedToken = cachingJwtUtil.parseToken(token);
+        blackhole.consume(cachingJwtUtil.validateToken(verifiedToken, userDetails));
+        blackhole.consume(verifiedToken.getRoles());
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .setAllowedClockSkewSeconds(60)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,184 @@
+package com.suryakiran.taskmanagementtool.benchmark;
+
+import com.suryakiran.taskmanagementtool.TaskmanagementtoolApplication;
+import com.suryakiran.taskmanagementtool.TestFixtures;
+import com.suryakiran.taskmanagementtool.dto.TaskDTO;
+import com.suryakiran.taskmanagementtool.model.Priority;
+import com.suryakiran.taskmanagementtool.model.Status;
+import com.suryakiran.taskmanagementtool.security.AuthenticatedUser;
+import com.suryakiran.taskmanagementtool.service.TaskService;
+import com.suryakiran.taskmanagementtool.util.JwtUtil;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+// Throughput and latency of GET /api/tasks/{id} served on Tomcat's platform threads and then on virtual threads
+// (spring.threads.virtual.enabled), with a fixed number of clients each sending its next request as soon as the last
+// one returns. Every connection checkout first sleeps for load.latency, standing in for a slow database without
+// holding a pooled connection. Each mode boots the application on a random port with its own in-memory database.
+// The virtual mode needs JDK 21; on older JDKs only the platform mode is measured.
+//   mvn -B test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+//       "-Dexec.args=-Dload.clients=1000 -Dload.latency=PT0.05S -cp %classpath com.suryakiran.taskmanagementtool.benchmark.ServingModeLoadBenchmark"
+public class ServingModeLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 1000);
+    private static final Duration LATENCY = Duration.parse(System.getProperty("load.latency", "PT0.05S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    private static final Duration MEASUREMENT = Duration.parse(System.getProperty("load.duration", "PT20S"));
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis, long errors) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Result> results = new ArrayList<>();
+        results.add(run(false));
+        if (Runtime.version().feature() >= 21) {
+            results.add(run(true));
+        } else {
+            System.out.println("Virtual threads need JDK 21; only the platform mode was measured");
+        }
+        System.out.printf("%n%d clients, %d ms database latency, %d s measured%n", CLIENTS, LATENCY.toMillis(), MEASUREMENT.toSeconds());
+        System.out.printf("%-10s %12s %10s %10s %8s%n", "mode", "requests/s", "p50 ms", "p99 ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %12.0f %10.1f %10.1f %8d%n", result.mode(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.errors());
+        }
+    }
+
+    private static Result run(boolean virtualThreads) throws InterruptedException {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskmanagementtoolApplication.class, DatabaseLatency.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load_" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.suryakiran=WARN")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            int userId = TestFixtures.insertUser(jdbcTemplate, "Load", "load@example.com");
+            TestFixtures.grantUserRole(jdbcTemplate, userId);
+            AuthenticatedUser principal = TestFixtures.principal(userId, "load@example.com");
+            String token = context.getBean(JwtUtil.class).generateToken(principal, userId);
+            TaskDTO task = TestFixtures.task("Load test", "Read by every request", Status.TO_DO, Priority.MEDIUM, LocalDate.now().plusDays(7));
+            String taskId = context.getBean(TaskService.class).createTask(task, TestFixtures.authentication(principal)).getId();
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/" + taskId))
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+            return drive(mode, request);
+        }
+    }
+
+    private static Result drive(String mode, HttpRequest request) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        Recorder recorder = new Recorder(measureFrom, measureFrom + MEASUREMENT.toNanos());
+        CountDownLatch finished = new CountDownLatch(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            send(client, request, recorder, finished);
+        }
+        finished.await();
+
+        long[] latencies = recorder.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(mode, latencies.length / (MEASUREMENT.toNanos() / 1e9),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), recorder.errors.sum());
+    }
+
+    // One client: the next request goes out when the previous one completes, until the measurement ends
+    private static void send(HttpClient client, HttpRequest request, Recorder recorder, CountDownLatch finished) {
+        long started = System.nanoTime();
+        if (started >= recorder.end) {
+            finished.countDown();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            recorder.record(started, System.nanoTime(), failure == null && response.statusCode() == 200);
+            send(client, request, recorder, finished);
+        });
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+
+    // Requests that both start and finish inside the measurement window
+    private static final class Recorder {
+        private final long measureFrom;
+        private final long end;
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder errors = new LongAdder();
+
+        Recorder(long measureFrom, long end) {
+            this.measureFrom = measureFrom;
+            this.end = end;
+        }
+
+        void record(long started, long completed, boolean ok) {
+            if (started < measureFrom || completed > end) {
+                return;
+            }
+            if (ok) {
+                latencies.add(completed - started);
+            } else {
+                errors.increment();
+            }
+        }
+    }
+
+    @Configuration
+    static class DatabaseLatency {
+
+        @Bean
+        static BeanPostProcessor slowConnections() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                    return bean instanceof DataSource dataSource ? new SlowDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class SlowDataSource extends DelegatingDataSource {
+
+        SlowDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws SQLException {
+            try {
+                // Parks a virtual thread; holds a platform thread
+                Thread.sleep(LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while simulating database latency", e);
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.suryakiran.taskmanagementtool.benchmark;
+
+import com.suryakiran.taskmanagementtool.search.InvertedIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Query latency of InvertedIndex with 1M tasks loaded, spread over users of a given size. Titles and descriptions
+// are drawn from a 5,000-word vocabulary with a skewed (Zipf-like) frequency, so common words have long postings.
+//   mvn -B test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+//       "-Dexec.args=-cp %classpath com.suryakiran.taskmanagementtool.benchmark.TaskSearchBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TaskSearchBenchmark {
+
+    private static final int TOTAL_TASKS = 1_000_000;
+    private static final int VOCABULARY = 5_000;
+
+    @Param({"1000", "100000"})
+    public int tasksPerUser;
+
+    private InvertedIndex index;
+    private String[] words;
+    private int users;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom seed = new SplittableRandom(42);
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + seed.nextInt(6);
+            for (int c = 0; c < length; c++) {
+                word.append((char) ('a' + seed.nextInt(26)));
+            }
+            words[i] = word.toString();
+        }
+        users = TOTAL_TASKS / tasksPerUser;
+        index = new InvertedIndex();
+        for (int task = 0; task < TOTAL_TASKS; task++) {
+            index.put(task % users, "T" + task, text(seed, 3 + seed.nextInt(4)), text(seed, 5 + seed.nextInt(15)));
+        }
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public List<String> singleTerm() {
+        return index.search(random.nextInt(users), word(random), 20);
+    }
+
+    @Benchmark
+    public List<String> twoTerms() {
+        return index.search(random.nextInt(users), word(random) + " " + word(random), 20);
+    }
+
+    // Type-ahead style: the last word is a three-letter prefix
+    @Benchmark
+    public List<String> prefix() {
+        return index.search(random.nextInt(users), word(random) + " " + word(random).substring(0, 3), 20);
+    }
+
+    private String text(SplittableRandom random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(word(random)).append(' ');
+        }
+        return text.toString();
+    }
+
+    // Skewed towards low indexes: the square of a uniform value favours the most common words
+    private String word(SplittableRandom random) {
+        double uniform = random.nextDouble();
+        return words[(int) (uniform * uniform * VOCABULARY)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
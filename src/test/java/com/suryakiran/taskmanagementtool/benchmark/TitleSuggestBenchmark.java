@@ -0,0 +1,98 @@
+package com.suryakiran.taskmanagementtool.benchmark;
+
+import com.suryakiran.taskmanagementtool.search.TitleTrie;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Suggestion latency of TitleTrie with 1M task titles loaded, spread over users of a given size. Titles are two to
+// four words from a 5,000-word skewed vocabulary, so common titles repeat. Sampled, so JMH reports p99 and p99.9.
+//   mvn -B test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+//       "-Dexec.args=-cp %classpath com.suryakiran.taskmanagementtool.benchmark.TitleSuggestBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TitleSuggestBenchmark {
+
+    private static final int TOTAL_TASKS = 1_000_000;
+    private static final int VOCABULARY = 5_000;
+
+    @Param({"1000", "100000"})
+    public int tasksPerUser;
+
+    private TitleTrie trie;
+    private String[] words;
+    private int users;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom seed = new SplittableRandom(42);
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + seed.nextInt(6);
+            for (int c = 0; c < length; c++) {
+                word.append((char) ('a' + seed.nextInt(26)));
+            }
+            words[i] = word.toString();
+        }
+        users = TOTAL_TASKS / tasksPerUser;
+        trie = new TitleTrie();
+        for (int task = 0; task < TOTAL_TASKS; task++) {
+            trie.add(task % users, title(seed));
+        }
+        System.out.printf("%n%d distinct titles%n", trie.size());
+        random = new SplittableRandom(7);
+    }
+
+    // The first keystrokes: one or two letters, which match the most titles
+    @Benchmark
+    public List<String> shortPrefix() {
+        return trie.suggest(random.nextInt(users), word(random).substring(0, 1 + random.nextInt(2)), 10);
+    }
+
+    // A word and the start of the next one
+    @Benchmark
+    public List<String> longPrefix() {
+        return trie.suggest(random.nextInt(users), word(random) + " " + word(random).substring(0, 2), 10);
+    }
+
+    // A title being renamed: one removal and one insertion, as a task update does
+    @Benchmark
+    public List<String> renameAndSuggest() {
+        int user = random.nextInt(users);
+        String title = title(random);
+        trie.add(user, title);
+        trie.remove(user, title);
+        return trie.suggest(user, title.substring(0, 3), 10);
+    }
+
+    private String title(SplittableRandom random) {
+        StringBuilder title = new StringBuilder(word(random));
+        for (int i = 1 + random.nextInt(3); i > 0; i--) {
+            title.append(' ').append(word(random));
+        }
+        return title.toString();
+    }
+
+    // Skewed towards low indexes: the square of a uniform value favours the most common words
+    private String word(SplittableRandom random) {
+        double uniform = random.nextDouble();
+        return words[(int) (uniform * uniform * VOCABULARY)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TitleSuggestBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}